@@ -4,7 +4,7 @@ import android.os.Bundle;
 
 import com.badlogic.gdx.backends.android.AndroidApplication;
 import com.badlogic.gdx.backends.android.AndroidApplicationConfiguration;
-import com.boltstorms.phantomball.tools.AndroidGifDecoder;
+import com.boltstorms.phantomball.tools.GifCodec;
 import com.boltstorms.phantomball.tools.GifLoader;
 
 public class AndroidLauncher extends AndroidApplication {
@@ -13,7 +13,7 @@ public class AndroidLauncher extends AndroidApplication {
 		super.onCreate(savedInstanceState);
 
 		// ✅ IMPORTANT: tell core to use Android decoder
-		GifLoader.DECODER = new AndroidGifDecoder();
+		GifLoader.DECODER = new GifCodec();
 
 		AndroidApplicationConfiguration config = new AndroidApplicationConfiguration();
 		config.useImmersiveMode = true;
@@ -0,0 +1,74 @@
+package com.boltstorms.phantomball.benchmarks;
+
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.boltstorms.phantomball.tools.GifCodec;
+import com.boltstorms.phantomball.tools.GifDecoder;
+import com.boltstorms.phantomball.tools.GifFrameCache;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Startup cost of getting a GIF's frames as Pixmaps: plain decode (GifCodec), cold cache
+ * (decode + write the cache file) and warm cache (memory-mapped read). Uses a temp directory
+ * as local storage and reads the GIFs from the working directory (assets/).
+ */
+public final class GifCacheBenchmark {
+
+    private static final String[] GIFS = {"AnimatedFireplace.gif", "tutorial_gif1.gif"};
+
+    private static long sink = 0;
+
+    public static void main(String[] args) throws IOException {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        GdxNativesLoader.load();
+
+        File dir = Files.createTempDirectory("gifcache").toFile();
+        GifFrameCache cache = new GifFrameCache(dir);
+        GifCodec codec = new GifCodec();
+
+        System.out.println("gif                      decode ms   cold ms   warm ms   file MB");
+        for (String gif : GIFS) {
+            byte[] bytes = Files.readAllBytes(Paths.get(gif));
+
+            // warm-up (JIT)
+            consume(codec.decodeFrames(new ByteArrayInputStream(bytes)));
+            consume(cache.load(gif, bytes, codec));
+            consume(cache.load(gif, bytes, codec));
+
+            long t0 = System.nanoTime();
+            for (int r = 0; r < runs; r++) consume(codec.decodeFrames(new ByteArrayInputStream(bytes)));
+            double decode = (System.nanoTime() - t0) / 1e6 / runs;
+
+            long cold = 0;
+            for (int r = 0; r < runs; r++) {
+                cache.clear();
+                long t = System.nanoTime();
+                consume(cache.load(gif, bytes, codec));
+                cold += System.nanoTime() - t;
+            }
+
+            t0 = System.nanoTime();
+            for (int r = 0; r < runs; r++) consume(cache.load(gif, bytes, codec));
+            double warm = (System.nanoTime() - t0) / 1e6 / runs;
+
+            double mb = 0;
+            File[] files = dir.listFiles();
+            if (files != null) for (File f : files) mb += f.length() / (1024.0 * 1024.0);
+
+            System.out.printf("%-24s %9.2f %9.2f %9.2f %9.1f%n", gif, decode, cold / 1e6 / runs, warm, mb);
+            cache.clear();
+        }
+
+        dir.delete();
+        if (sink == 42) System.out.println();
+    }
+
+    private static void consume(GifDecoder.GIFFrames frames) {
+        sink += frames.frames.size;
+        frames.dispose();
+    }
+}
@@ -0,0 +1,73 @@
+package com.boltstorms.phantomball.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.boltstorms.phantomball.tools.DesktopGifDecoder;
+import com.boltstorms.phantomball.tools.GifCodec;
+import com.boltstorms.phantomball.tools.GifDecoder;
+import com.boltstorms.phantomball.tools.LegacyGifDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole-GIF decode to Pixmaps (no GL upload) for the real background assets:
+ * LegacyGifDecoder.decodeToFrames, the ImageIO path of DesktopGifDecoder and GifCodec.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GifDecodeBenchmark {
+
+    @Param({"AnimatedFireplace.gif", "tutorial_gif1.gif"})
+    public String gif;
+
+    private byte[] bytes;
+
+    private final DesktopGifDecoder imageIo = new DesktopGifDecoder();
+    private final GifCodec codec = new GifCodec();
+
+    @Setup
+    public void setup() {
+        Headless.start();
+        bytes = Gdx.files.internal(gif).readBytes();
+    }
+
+    @Benchmark
+    public int legacy() {
+        LegacyGifDecoder.Result result = LegacyGifDecoder.decodeToFrames(new ByteArrayInputStream(bytes));
+        int n = result.frames.size;
+        for (Pixmap pm : result.frames) pm.dispose();
+        return n;
+    }
+
+    @Benchmark
+    public int imageIo() {
+        return drop(imageIo.decodeFrames(new ByteArrayInputStream(bytes)));
+    }
+
+    @Benchmark
+    public int codec() {
+        return drop(codec.decodeFrames(new ByteArrayInputStream(bytes)));
+    }
+
+    private static int drop(GifDecoder.GIFFrames frames) {
+        int n = frames.frames.size;
+        frames.dispose();
+        return n;
+    }
+}
@@ -0,0 +1,23 @@
+package com.boltstorms.phantomball.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Boots the headless backend once per JMH fork, so benchmarks get natives and Gdx.files
+ * (internal files resolve against the working directory, assets/ under the jmh task).
+ */
+final class Headless {
+
+    private Headless() {}
+
+    static synchronized void start() {
+        if (Gdx.app != null) return;
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1; // no render loop, we only need the Gdx statics
+        new HeadlessApplication(new ApplicationAdapter() {}, config);
+    }
+}
@@ -0,0 +1,37 @@
+package com.boltstorms.phantomball.benchmarks;
+
+import com.boltstorms.phantomball.gameplay.PhantomType;
+import com.boltstorms.phantomball.gameplay.stats.BallProgression;
+import com.boltstorms.phantomball.gameplay.stats.BallStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BallProgression.statsFor across the spirit/ball level range (called on every spawn,
+ * respawn and level-up).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProgressionBenchmark {
+
+    private int level = 0;
+
+    @Benchmark
+    public BallStats statsFor() {
+        level = (level % 20) + 1;
+        return BallProgression.statsFor((level & 1) == 0 ? PhantomType.BLUE : PhantomType.RED, level);
+    }
+}
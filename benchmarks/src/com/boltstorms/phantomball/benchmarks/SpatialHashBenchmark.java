@@ -0,0 +1,143 @@
+package com.boltstorms.phantomball.benchmarks;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.IntArray;
+import com.boltstorms.phantomball.gameplay.spatial.SpatialHash;
+
+/**
+ * Broadphase cost per simulated tick, linear scan vs SpatialHash, from 10 to 10,000 spirits.
+ *
+ * One tick = move every spirit, test 2 balls, 1 tap, and run a clearance check (count every
+ * overlapping neighbour) for 1% of the spirits, as respawn placement does. Plain arrays stand in
+ * for EvilSpirit so this runs without a GL context.
+ */
+public final class SpatialHashBenchmark {
+
+    private static final float W = 540f;
+    private static final float H = 790f;
+    private static final float CELL = 38.4f; // 2 * level-1 spirit maxRadius * SPIRIT_SIZE_SCALE
+    private static final float BALL_R = 20f;
+    private static final float DT = 1f / 60f;
+
+    private static final int[] COUNTS = {10, 100, 1000, 10000};
+
+    private final int n;
+    private final float[] x, y, vx, vy, r;
+    private final RandomXS128 rng = new RandomXS128(42L);
+
+    private final SpatialHash grid = new SpatialHash();
+    private final IntArray out = new IntArray();
+
+    private long sink = 0;
+
+    private SpatialHashBenchmark(int n) {
+        this.n = n;
+        x = new float[n]; y = new float[n];
+        vx = new float[n]; vy = new float[n];
+        r = new float[n];
+
+        for (int i = 0; i < n; i++) {
+            r[i] = 6.4f + rng.nextFloat() * 12.8f;
+            x[i] = r[i] + rng.nextFloat() * (W - 2f * r[i]);
+            y[i] = r[i] + rng.nextFloat() * (H - 2f * r[i]);
+            float a = rng.nextFloat() * 6.2831855f;
+            vx[i] = (float) Math.cos(a) * 210f;
+            vy[i] = (float) Math.sin(a) * 210f;
+        }
+        grid.configure(W, H, CELL);
+    }
+
+    public static void main(String[] args) {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+
+        System.out.println("spirits   linear ns/tick   grid ns/tick   speedup");
+        for (int count : COUNTS) {
+            SpatialHashBenchmark b = new SpatialHashBenchmark(count);
+
+            // warm-up (JIT + grid buffers)
+            b.runLinear(ticks);
+            b.runGrid(ticks);
+
+            long linear = b.runLinear(ticks);
+            long gridded = b.runGrid(ticks);
+
+            System.out.printf("%7d   %14d   %12d   %6.1fx%n",
+                    count, linear / ticks, gridded / ticks, linear / (double) Math.max(1L, gridded));
+
+            if (b.sink == 42) System.out.println();
+        }
+    }
+
+    private long runLinear(int ticks) {
+        long t0 = System.nanoTime();
+        for (int t = 0; t < ticks; t++) {
+            move();
+
+            // 2 balls + 1 tap
+            for (int b = 0; b < 3; b++) {
+                float px = W * (0.25f + 0.25f * b), py = H * 0.5f;
+                for (int i = 0; i < n; i++) {
+                    if (overlap(i, px, py, BALL_R)) sink++;
+                }
+            }
+
+            // respawn placement: clearance against every spirit
+            int respawns = Math.max(1, n / 100);
+            for (int k = 0; k < respawns; k++) {
+                int self = (t * 31 + k * 7) % n;
+                for (int i = 0; i < n; i++) {
+                    if (i != self && overlap(i, x[self], y[self], r[self])) sink++;
+                }
+            }
+        }
+        return System.nanoTime() - t0;
+    }
+
+    private long runGrid(int ticks) {
+        long t0 = System.nanoTime();
+        for (int t = 0; t < ticks; t++) {
+            move();
+
+            grid.clear();
+            for (int i = 0; i < n; i++) grid.insert(i, x[i], y[i], r[i]);
+            grid.build();
+
+            for (int b = 0; b < 3; b++) {
+                float px = W * (0.25f + 0.25f * b), py = H * 0.5f;
+                int c = grid.query(px, py, BALL_R, out);
+                for (int k = 0; k < c; k++) {
+                    if (overlap(out.get(k), px, py, BALL_R)) sink++;
+                }
+            }
+
+            int respawns = Math.max(1, n / 100);
+            for (int k = 0; k < respawns; k++) {
+                int self = (t * 31 + k * 7) % n;
+                int c = grid.query(x[self], y[self], r[self], out);
+                for (int j = 0; j < c; j++) {
+                    int i = out.get(j);
+                    if (i != self && overlap(i, x[self], y[self], r[self])) sink++;
+                }
+            }
+        }
+        return System.nanoTime() - t0;
+    }
+
+    private void move() {
+        for (int i = 0; i < n; i++) {
+            x[i] += vx[i] * DT;
+            y[i] += vy[i] * DT;
+            if (x[i] < r[i]) { x[i] = r[i]; vx[i] = -vx[i]; }
+            if (x[i] > W - r[i]) { x[i] = W - r[i]; vx[i] = -vx[i]; }
+            if (y[i] < r[i]) { y[i] = r[i]; vy[i] = -vy[i]; }
+            if (y[i] > H - r[i]) { y[i] = H - r[i]; vy[i] = -vy[i]; }
+        }
+    }
+
+    private boolean overlap(int i, float px, float py, float pr) {
+        float dx = x[i] - px;
+        float dy = y[i] - py;
+        float rr = r[i] + pr;
+        return dx * dx + dy * dy <= rr * rr;
+    }
+}
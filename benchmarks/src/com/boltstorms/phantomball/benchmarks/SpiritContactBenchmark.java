@@ -0,0 +1,71 @@
+package com.boltstorms.phantomball.benchmarks;
+
+import com.boltstorms.phantomball.gameplay.Ball;
+import com.boltstorms.phantomball.gameplay.PhantomType;
+import com.boltstorms.phantomball.gameplay.SpiritStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Narrowphase tests over every spirit: ball contact (SpiritStore.collides) and the tap
+ * hit-test (SpiritStore.containsPoint). Reported per full pass.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpiritContactBenchmark {
+
+    private static final float W = 540f;
+    private static final float H = 790f;
+
+    @Param({"100", "1000"})
+    public int spirits;
+
+    private SpiritStore store;
+    private Ball ball;
+
+    @Setup
+    public void setup() {
+        Headless.start();
+
+        store = new SpiritStore(spirits);
+        for (int i = 0; i < spirits; i++) {
+            store.spawn(i % 2 == 0 ? PhantomType.BLUE : PhantomType.RED, W, H);
+        }
+
+        ball = new Ball(PhantomType.BLUE, 3);
+        ball.resetWithAngle(W * 0.5f, H * 0.5f, 45f);
+    }
+
+    @Benchmark
+    public int collides() {
+        int hits = 0;
+        for (int i = 0, n = store.size(); i < n; i++) {
+            if (store.collides(i, ball)) hits++;
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int containsPoint() {
+        int hits = 0;
+        for (int i = 0, n = store.size(); i < n; i++) {
+            if (store.containsPoint(i, W * 0.5f, H * 0.5f)) hits++;
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,57 @@
+package com.boltstorms.phantomball.benchmarks;
+
+import com.boltstorms.phantomball.gameplay.PhantomType;
+import com.boltstorms.phantomball.gameplay.WorldController;
+import com.boltstorms.phantomball.util.Const;
+import com.boltstorms.phantomball.util.EventLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One WorldController.update of exactly one fixed tick ({@link Const#SIM_TICK_HZ}) with
+ * every ball in play. Balls are re-summoned when they die, as HeadlessLauncher does.
+ * Spirit counts start above the world's own 10, so every point adds load.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldUpdateBenchmark {
+
+    @Param({"100", "1000", "5000", "10000"})
+    public int spirits;
+
+    private WorldController world;
+
+    @Setup
+    public void setup() {
+        Headless.start();
+        EventLog.setLevel(EventLog.OFF);
+
+        world = new WorldController(42L);
+        world.resize((int) Const.VIRTUAL_W, (int) (Const.VIRTUAL_H - 170f));
+        world.spawnSpirits(Math.max(0, spirits - world.getSpiritCount()));
+    }
+
+    @Benchmark
+    public int update() {
+        for (PhantomType type : PhantomType.ALL) {
+            if (world.canSummon(type)) world.summon(type);
+        }
+        world.update(1f / Const.SIM_TICK_HZ);
+        return world.getScore();
+    }
+}
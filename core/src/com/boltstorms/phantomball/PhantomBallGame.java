@@ -1,12 +1,26 @@
 package com.boltstorms.phantomball;
 
 import com.badlogic.gdx.Game;
+import com.boltstorms.phantomball.assets.GameAssets;
 import com.boltstorms.phantomball.screens.MenuScreen;
 
 public class PhantomBallGame extends Game {
 
+	private GameAssets assets;
+
 	@Override
 	public void create() {
+		assets = new GameAssets();
 		setScreen(new MenuScreen(this));
 	}
+
+	public GameAssets getAssets() {
+		return assets;
+	}
+
+	@Override
+	public void dispose() {
+		super.dispose();
+		assets.dispose();
+	}
 }
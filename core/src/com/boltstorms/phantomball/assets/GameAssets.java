@@ -0,0 +1,172 @@
+package com.boltstorms.phantomball.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.boltstorms.phantomball.tools.GifDecoder;
+
+/**
+ * Shared, reference-counted textures, GIF animations and music, keyed by asset path.
+ *
+ * Every acquire must be paired with one release of the same path. The first acquire
+ * decodes and uploads; later ones just bump the count, and the resource is freed when
+ * the last holder releases it. Backed by a libGDX {@link AssetManager}.
+ *
+ * preload*() queues assets without blocking: {@link #updatePreload(int)} lets the worker
+ * thread decode them to Pixmaps while the render thread spends at most the given budget
+ * per frame on uploads. Acquiring a preloaded asset is then free.
+ *
+ * Regions come from the packed atlas ({@code gradle packTextures}) when it exists and
+ * contains the image, otherwise from the loose PNG.
+ */
+public class GameAssets implements Disposable {
+
+    public static final String ATLAS = "atlas/game.atlas";
+
+    private final AssetManager manager = new AssetManager(new InternalFileHandleResolver());
+    private final Array<String> preloaded = new Array<>();
+
+    private final boolean hasAtlas;
+    // image path -> asset that actually backs its region (ATLAS or the path itself)
+    private final ObjectMap<String, String> regionOwners = new ObjectMap<>();
+
+    public GameAssets() {
+        manager.setLoader(GifDecoder.GIFAnimation.class, new GifAnimationLoader(manager.getFileHandleResolver()));
+        hasAtlas = Gdx.files.internal(ATLAS).exists();
+    }
+
+    // ===================== ACQUIRE / RELEASE =====================
+
+    public Texture acquireTexture(String path) {
+        return acquireTexture(path, Texture.TextureFilter.Nearest);
+    }
+
+    /** The filter only applies if this call is the one that loads the texture. */
+    public Texture acquireTexture(String path, Texture.TextureFilter filter) {
+        manager.load(path, Texture.class, textureParams(filter));
+        return manager.finishLoadingAsset(path);
+    }
+
+    public GifDecoder.GIFAnimation acquireGif(String path, Animation.PlayMode playMode) {
+        manager.load(path, GifDecoder.GIFAnimation.class, gifParams(playMode));
+        return manager.finishLoadingAsset(path);
+    }
+
+    /** Region for an image path, e.g. "BlueSpirit1.png". Release with {@link #releaseRegion}. */
+    public TextureRegion acquireRegion(String path, Texture.TextureFilter filter) {
+        if (hasAtlas) {
+            manager.load(ATLAS, TextureAtlas.class);
+            TextureAtlas atlas = manager.finishLoadingAsset(ATLAS);
+
+            TextureRegion region = atlas.findRegion(regionName(path));
+            if (region != null) {
+                regionOwners.put(path, ATLAS);
+                return region;
+            }
+            release(ATLAS);
+        }
+
+        regionOwners.put(path, path);
+        return new TextureRegion(acquireTexture(path, filter));
+    }
+
+    public void releaseRegion(String path) {
+        release(regionOwners.get(path, path));
+    }
+
+    public boolean hasAtlas() {
+        return hasAtlas;
+    }
+
+    public Music acquireMusic(String path) {
+        manager.load(path, Music.class);
+        return manager.finishLoadingAsset(path);
+    }
+
+    public void release(String path) {
+        if (manager.isLoaded(path)) manager.unload(path);
+    }
+
+    public int getReferenceCount(String path) {
+        return manager.isLoaded(path) ? manager.getReferenceCount(path) : 0;
+    }
+
+    public int getLoadedCount() {
+        return manager.getLoadedAssets();
+    }
+
+    // ===================== PRELOAD =====================
+
+    public void preloadTexture(String path, Texture.TextureFilter filter) {
+        manager.load(path, Texture.class, textureParams(filter));
+        preloaded.add(path);
+    }
+
+    public void preloadRegion(String path, Texture.TextureFilter filter) {
+        if (hasAtlas) {
+            manager.load(ATLAS, TextureAtlas.class);
+            preloaded.add(ATLAS);
+        } else {
+            preloadTexture(path, filter);
+        }
+    }
+
+    /** Same parameters as the later {@link #acquireGif} so both calls describe one asset. */
+    public void preloadGif(String path, Animation.PlayMode playMode) {
+        manager.load(path, GifDecoder.GIFAnimation.class, gifParams(playMode));
+        preloaded.add(path);
+    }
+
+    public void preloadMusic(String path) {
+        manager.load(path, Music.class);
+        preloaded.add(path);
+    }
+
+    /** Returns true when everything queued is loaded. Spends about {@code millis} on the render thread. */
+    public boolean updatePreload(int millis) {
+        return manager.update(millis);
+    }
+
+    public float getPreloadProgress() {
+        return manager.getProgress();
+    }
+
+    /** Drops the references held by preload*(); call once the real owners have acquired. */
+    public void releasePreloaded() {
+        for (String path : preloaded) release(path);
+        preloaded.clear();
+    }
+
+    private static String regionName(String path) {
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        return path.substring(slash + 1, dot > slash ? dot : path.length());
+    }
+
+    private static TextureLoader.TextureParameter textureParams(Texture.TextureFilter filter) {
+        TextureLoader.TextureParameter params = new TextureLoader.TextureParameter();
+        params.minFilter = filter;
+        params.magFilter = filter;
+        return params;
+    }
+
+    private static GifAnimationLoader.Parameters gifParams(Animation.PlayMode playMode) {
+        GifAnimationLoader.Parameters params = new GifAnimationLoader.Parameters();
+        params.playMode = playMode;
+        return params;
+    }
+
+    @Override
+    public void dispose() {
+        manager.dispose();
+    }
+}
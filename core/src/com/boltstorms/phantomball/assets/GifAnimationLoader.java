@@ -0,0 +1,57 @@
+package com.boltstorms.phantomball.assets;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.utils.Array;
+import com.boltstorms.phantomball.tools.GifDecoder;
+import com.boltstorms.phantomball.tools.GifLoader;
+
+/**
+ * Loads GIFs through the platform {@link GifLoader#DECODER}: frames are decoded to Pixmaps
+ * on the asset worker thread, then uploaded on the render thread.
+ */
+public class GifAnimationLoader
+        extends AsynchronousAssetLoader<GifDecoder.GIFAnimation, GifAnimationLoader.Parameters> {
+
+    public static class Parameters extends AssetLoaderParameters<GifDecoder.GIFAnimation> {
+        public Animation.PlayMode playMode = Animation.PlayMode.LOOP;
+    }
+
+    // AssetManager runs one task per loader at a time
+    private GifDecoder.GIFFrames decoded;
+
+    public GifAnimationLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, Parameters params) {
+        decoded = GifLoader.decodeFrames(file);
+    }
+
+    @Override
+    public GifDecoder.GIFAnimation loadSync(AssetManager manager, String fileName, FileHandle file, Parameters params) {
+        GifDecoder.GIFAnimation anim = decoded.upload();
+        decoded = null;
+        return anim;
+    }
+
+    @Override
+    public void unloadAsync(AssetManager manager, String fileName, FileHandle file, Parameters params) {
+        if (decoded != null) {
+            decoded.dispose();
+            decoded = null;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, Parameters params) {
+        return null;
+    }
+}
@@ -3,30 +3,82 @@ package com.boltstorms.phantomball.backgrounds;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.boltstorms.phantomball.assets.GameAssets;
 import com.boltstorms.phantomball.tools.GifDecoder;
 import com.boltstorms.phantomball.tools.GifLoader;
+import com.boltstorms.phantomball.tools.PaletteShader;
+import com.boltstorms.phantomball.tools.StreamingGifAnimation;
 
 public class FireplaceBackground {
 
-    private final GifDecoder.GIFAnimation introGif;
-    private final GifDecoder.GIFAnimation loopGif;
+    private static final String INTRO_GIF = "OpenFireplace.gif";
+    private static final String LOOP_GIF = "AnimatedFireplace.gif";
 
-    private final Animation<TextureRegion> intro;
-    private final Animation<TextureRegion> loop;
+    // Textures kept on the GPU per GIF in streaming mode
+    private static final int STREAM_RING_SIZE = 3;
+
+    private final GameAssets assets;
+    private final boolean streaming;
+
+    // Fully decoded mode (shared through the registry)
+    private Animation<TextureRegion> intro;
+    private Animation<TextureRegion> loop;
+
+    // Streaming mode (own playback state, not shared)
+    private StreamingGifAnimation introStream;
+    private StreamingGifAnimation loopStream;
+    private ShaderProgram paletteShader; // only if a stream ended up indexed
 
     private float time = 0f;
     private boolean introDone = false;
 
-    public FireplaceBackground() {
+    public FireplaceBackground(GameAssets assets) {
+        this(assets, false, false);
+    }
+
+    /**
+     * streaming: decode frames while playing into a small texture ring instead of keeping all of them.
+     * indexed (streaming only): keep palette indices on the GPU and color them in a shader.
+     */
+    public FireplaceBackground(GameAssets assets, boolean streaming, boolean indexed) {
+        this.assets = assets;
+        this.streaming = streaming;
+
+        if (streaming) {
+            introStream = GifLoader.loadStreamingGif(INTRO_GIF, Animation.PlayMode.NORMAL, STREAM_RING_SIZE, indexed);
+            loopStream  = GifLoader.loadStreamingGif(LOOP_GIF, Animation.PlayMode.LOOP, STREAM_RING_SIZE, indexed);
+
+            if (introStream.isIndexed() || loopStream.isIndexed()) paletteShader = PaletteShader.create();
+            return;
+        }
+
         // Load once for intro, once for loop (simple and explicit)
-        introGif = GifLoader.loadGif("OpenFireplace.gif", Animation.PlayMode.NORMAL);
-        loopGif  = GifLoader.loadGif("AnimatedFireplace.gif", Animation.PlayMode.LOOP);
+        GifDecoder.GIFAnimation introGif = assets.acquireGif(INTRO_GIF, Animation.PlayMode.NORMAL);
+        GifDecoder.GIFAnimation loopGif  = assets.acquireGif(LOOP_GIF, Animation.PlayMode.LOOP);
 
         intro = introGif.rebuildAnimation(introGif.frameDuration, Animation.PlayMode.NORMAL);
         loop  = loopGif.rebuildAnimation(loopGif.frameDuration, Animation.PlayMode.LOOP);
     }
 
+    /** Streaming mode only reads the compressed bytes on construction, so there is nothing to preload. */
+    public static void preload(GameAssets assets, boolean streaming) {
+        if (streaming) return;
+        assets.preloadGif(INTRO_GIF, Animation.PlayMode.NORMAL);
+        assets.preloadGif(LOOP_GIF, Animation.PlayMode.LOOP);
+    }
+
     public void update(float dt) {
+        if (streaming) {
+            if (!introDone) {
+                introStream.update(dt);
+                introDone = introStream.isAnimationFinished();
+            } else {
+                loopStream.update(dt);
+            }
+            return;
+        }
+
         time += dt;
 
         if (!introDone && intro.isAnimationFinished(time)) {
@@ -36,12 +88,24 @@ public class FireplaceBackground {
     }
 
     public void render(SpriteBatch batch, float x, float y, float w, float h) {
+        if (streaming) {
+            StreamingGifAnimation anim = introDone ? loopStream : introStream;
+            anim.draw(batch, paletteShader, x, y, w, h);
+            return;
+        }
+
         TextureRegion frame = introDone ? loop.getKeyFrame(time) : intro.getKeyFrame(time);
         batch.draw(frame, x, y, w, h);
     }
 
     public void dispose() {
-        introGif.dispose();
-        loopGif.dispose();
+        if (streaming) {
+            introStream.dispose();
+            loopStream.dispose();
+            if (paletteShader != null) paletteShader.dispose();
+            return;
+        }
+        assets.release(INTRO_GIF);
+        assets.release(LOOP_GIF);
     }
 }
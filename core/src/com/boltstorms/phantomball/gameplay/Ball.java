@@ -1,30 +1,36 @@
 package com.boltstorms.phantomball.gameplay;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.boltstorms.phantomball.gameplay.stats.BallProgression;
 import com.boltstorms.phantomball.gameplay.stats.BallStats;
 import com.boltstorms.phantomball.util.Const;
+import com.boltstorms.phantomball.util.EventLog;
 
-public class Ball {
+/**
+ * A summoned ball. Worlds recycle balls through an {@link EntityPool}: {@link #init} on
+ * summon, {@link #reset} when freed, so summoning never allocates.
+ */
+public class Ball implements Pool.Poolable {
 
     private final Vector2 pos = new Vector2();
     private final Vector2 vel = new Vector2();
 
+    // Position at the start of the last tick (render interpolation)
+    private final Vector2 prevPos = new Vector2();
+
     // Collision radius (HP-driven)
     private float r;
 
-    private final PhantomType type;
+    private PhantomType type;
+    private BallProgression progression;
     private BallStats stats;
 
     // HP drives size between stats.minRadius..stats.maxRadius for the level
     private float hp;
 
-    // animation
+    // animation state (advanced by the sim, read by BallRenderer)
     private float animTime = 0f;
     private float rotation = 0f;
     private boolean frameB = false;
@@ -32,34 +38,50 @@ public class Ball {
 
     private static final float FRAME_TIME = 0.18f;
     private static final float ROT_SPEED = 90f;
-    private static final float PULSE_AMPLITUDE = 0.08f;
-    private static final float PULSE_SPEED = 3.5f;
-
-    private final Texture frame1;
-    private final Texture frame2;
 
     private float hitCooldown = 0f;
 
+    /** Pooled instance; call {@link #init} before use. */
+    Ball() {}
+
     public Ball(PhantomType type, int level) {
+        this(type, level, BallProgression.defaults());
+    }
+
+    public Ball(PhantomType type, int level, BallProgression progression) {
+        init(type, level, progression);
+    }
+
+    public Ball init(PhantomType type, int level, BallProgression progression) {
         this.type = type;
-        this.stats = BallProgression.statsFor(type, level);
+        this.progression = progression;
+        this.stats = progression.stats(type, level);
 
         // Start at half HP -> mid size between min/max radius
         this.hp = stats.maxHp * 0.5f;
         syncRadiusToHp();
 
-        if (type == PhantomType.BLUE) {
-            frame1 = new Texture(Gdx.files.internal("PhantomPlayer.png"));
-            frame2 = new Texture(Gdx.files.internal("PhantomPlayer.png"));
-        } else {
-            frame1 = new Texture(Gdx.files.internal("PhantomPlayerPink.png"));
-            frame2 = new Texture(Gdx.files.internal("PhantomPlayerPink.png"));
-        }
+        log(EventLog.SPAWN);
+        return this;
+    }
 
-        frame1.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        frame2.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+    @Override
+    public void reset() {
+        pos.setZero();
+        vel.setZero();
+        prevPos.setZero();
+        r = 0f;
+        hp = 0f;
 
-        printStats("SPAWN");
+        type = null;
+        progression = null;
+        stats = null;
+
+        animTime = 0f;
+        rotation = 0f;
+        frameB = false;
+        frameTimer = 0f;
+        hitCooldown = 0f;
     }
 
     private void syncRadiusToHp() {
@@ -79,14 +101,14 @@ public class Ball {
 
     public void setLevel(int level) {
         BallStats old = stats;
-        stats = BallProgression.statsFor(type, level);
+        stats = progression.stats(type, level);
 
         // keep HP percentage across level-up
         float pct = (old.maxHp <= 0f) ? 1f : MathUtils.clamp(hp / old.maxHp, 0f, 1f);
         hp = pct * stats.maxHp;
 
         syncRadiusToHp();
-        printStats("LEVEL UP -> " + level);
+        log(EventLog.LEVEL_UP);
     }
 
     public int getLevel() { return stats.level; }
@@ -109,14 +131,14 @@ public class Ball {
     public void heal(float amount) {
         hp = MathUtils.clamp(hp + amount, 0f, stats.maxHp);
         syncRadiusToHp();
-        printHp("HEAL");
+        log(EventLog.HEAL);
     }
 
     public void takeDamage(float amount) {
         float dmg = stats.applyResistance(amount);
         hp = MathUtils.clamp(hp - dmg, 0f, stats.maxHp);
         syncRadiusToHp();
-        printHp("DMG");
+        log(EventLog.DAMAGE);
     }
 
     public boolean isDead() {
@@ -129,19 +151,25 @@ public class Ball {
     }
 
     public void resetWithAngle(float x, float y, float angleDeg) {
+        resetWithAngle(x, y, angleDeg, false);
+    }
+
+    /** {@code frameB} picks the starting sprite frame (the world rolls it from its RNG). */
+    public void resetWithAngle(float x, float y, float angleDeg, boolean frameB) {
         pos.set(x, y);
+        prevPos.set(x, y);
         vel.set(stats.speed, 0f).setAngleDeg(angleDeg);
 
         animTime = 0f;
         rotation = 0f;
         frameTimer = 0f;
-        frameB = MathUtils.randomBoolean();
+        this.frameB = frameB;
 
         // Reset to half HP -> mid size
         hp = stats.maxHp * 0.5f;
         syncRadiusToHp();
 
-        printStats("RESET");
+        log(EventLog.RESET);
     }
 
     public void update(float dt, float W, float H) {
@@ -156,6 +184,7 @@ public class Ball {
             frameB = !frameB;
         }
 
+        prevPos.set(pos);
         pos.mulAdd(vel, dt);
 
         if (pos.x < r) { pos.x = r; vel.x *= -1; }
@@ -164,66 +193,12 @@ public class Ball {
         if (pos.y > H - r) { pos.y = H - r; vel.y *= -1; }
     }
 
-    private Texture getCurrentTexture() {
-        return frameB ? frame2 : frame1;
-    }
-
-    public void draw(SpriteBatch batch) {
-        Texture tex = getCurrentTexture();
-
-        float pulse = 1f + MathUtils.sin(animTime * PULSE_SPEED) * PULSE_AMPLITUDE;
-
-        // Sprite size uses r but still respects your sprite scale
-        float size = r * 2f * pulse * Const.BALL_SPRITE_SCALE;
-
-        float x = pos.x - size * 0.5f;
-        float y = pos.y - size * 0.5f;
-
-        batch.draw(
-                tex,
-                x, y,
-                size * 0.5f, size * 0.5f,
-                size, size,
-                1f, 1f,
-                rotation,
-                0, 0,
-                tex.getWidth(), tex.getHeight(),
-                false, false
-        );
-    }
-
-    public void drawDebug(ShapeRenderer sr) {
-        if (!Const.DEBUG_DRAW) return;
-        sr.setColor(1f, 1f, 0f, 1f);
-        sr.circle(pos.x, pos.y, r);
-    }
-
-    public void dispose() {
-        frame1.dispose();
-        frame2.dispose();
-    }
-
-    private void printStats(String reason) {
-        System.out.println(
-                "[" + reason + "] " + type
-                        + " LV " + stats.level
-                        + " HP " + String.format("%.1f", hp) + "/" + String.format("%.1f", stats.maxHp)
-                        + " ATK " + String.format("%.1f", stats.attack)
-                        + " RES " + String.format("%.2f", stats.resistance)
-                        + " SPD " + String.format("%.1f", stats.speed)
-                        + " minR " + String.format("%.1f", stats.minRadius)
-                        + " maxR " + String.format("%.1f", stats.maxRadius)
-                        + " xpNext " + stats.xpToNext
-        );
-    }
+    public Vector2 getPrevPos() { return prevPos; }
+    public float getAnimTime() { return animTime; }
+    public float getRotation() { return rotation; }
+    public boolean isFrameB() { return frameB; }
 
-    private void printHp(String reason) {
-        System.out.println(
-                "[HP " + reason + "] " + type
-                        + " LV " + stats.level
-                        + " HP " + String.format("%.2f", hp)
-                        + "/" + String.format("%.2f", stats.maxHp)
-                        + " (R=" + String.format("%.1f", r) + ")"
-        );
+    private void log(int kind) {
+        if (EventLog.ENABLED) EventLog.log(kind, type, stats, hp, r);
     }
 }
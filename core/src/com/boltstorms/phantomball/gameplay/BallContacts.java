@@ -0,0 +1,170 @@
+package com.boltstorms.phantomball.gameplay;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.boltstorms.phantomball.gameplay.spatial.SpatialHash;
+
+/**
+ * Ball-vs-spirit contact for one tick, after the spirits have moved.
+ *
+ * Spirits are bucketed into one grid per type, and each ball only queries the grids of
+ * the types its row of the {@link InteractionMatrix} touches. Candidates get a swept test:
+ * ball and spirit both move in a straight line over the tick, so their offset does too,
+ * and every rate is scaled by the fraction of the tick they overlap. A fast ball (or a
+ * long tick) can neither skip a spirit nor get a full tick of contact for touching it at
+ * the very end.
+ *
+ * Results are per ball slot (the index in the array passed to {@link #step}); the world
+ * applies them and respawns {@link #dead} spirits afterwards.
+ */
+final class BallContacts {
+
+    private final SpiritStore store;
+    private final InteractionMatrix matrix;
+    private final float xpPerDamage;
+
+    private final SpatialHash[] grids = new SpatialHash[PhantomType.COUNT];
+    private final boolean[] wanted = new boolean[PhantomType.COUNT];
+    private final IntArray candidates = new IntArray(64);
+
+    // Largest distance any spirit moved this tick (widens the ball queries)
+    private float maxSpiritMove = 0f;
+
+    // Per ball slot, for the last step()
+    float[] ballDamage = new float[4];
+    float[] ballGrow = new float[4];
+    float[] ballXp = new float[4];
+    int kills = 0;
+    final IntArray dead = new IntArray();
+
+    BallContacts(SpiritStore store, InteractionMatrix matrix, float xpPerDamage) {
+        this.store = store;
+        this.matrix = matrix;
+        this.xpPerDamage = xpPerDamage;
+        for (int t = 0; t < grids.length; t++) grids[t] = new SpatialHash();
+    }
+
+    void configure(float W, float H, float cellSize) {
+        for (SpatialHash g : grids) g.configure(W, H, cellSize);
+    }
+
+    /** Pre-sizes the type grids so up to {@code spirits} spirits of one type never allocate. */
+    void ensureCapacity(int spirits) {
+        for (SpatialHash g : grids) g.ensureCapacity(spirits);
+        dead.ensureCapacity(spirits);
+    }
+
+    /** Touches every spirit with the non-null balls in balls[0 .. count). */
+    void step(float dt, Ball[] balls, int count) {
+        if (ballDamage.length < count) {
+            ballDamage = new float[count];
+            ballGrow = new float[count];
+            ballXp = new float[count];
+        }
+        for (int b = 0; b < count; b++) {
+            ballDamage[b] = 0f;
+            ballGrow[b] = 0f;
+            ballXp[b] = 0f;
+        }
+        kills = 0;
+        dead.clear();
+
+        if (!bucket(balls, count)) return;
+
+        for (int b = 0; b < count; b++) {
+            if (balls[b] != null) touch(b, balls[b], dt);
+        }
+    }
+
+    // Rebuilds the grids of the types some ball interacts with; false if there are none
+    private boolean bucket(Ball[] balls, int count) {
+        boolean any = false;
+        for (int t = 0; t < wanted.length; t++) wanted[t] = false;
+        for (int b = 0; b < count; b++) {
+            if (balls[b] == null) continue;
+            for (int t : matrix.targets[balls[b].getType().ordinal()]) wanted[t] = any = true;
+        }
+        if (!any) return false;
+
+        for (SpatialHash g : grids) g.clear();
+
+        SpiritStore s = store;
+        float move = 0f;
+        for (int i = 0, n = s.size(); i < n; i++) {
+            int t = s.type[i];
+            if (!wanted[t]) continue;
+
+            grids[t].insert(i, s.x[i], s.y[i], s.r[i]);
+            float d = Math.abs(s.x[i] - s.px[i]) + Math.abs(s.y[i] - s.py[i]);
+            if (d > move) move = d;
+        }
+        maxSpiritMove = move;
+
+        for (int t = 0; t < grids.length; t++) {
+            if (wanted[t]) grids[t].build();
+        }
+        return true;
+    }
+
+    private void touch(int b, Ball ball, float dt) {
+        SpiritStore s = store;
+        float bx0 = ball.getPrevPos().x, by0 = ball.getPrevPos().y;
+        float bx1 = ball.getPos().x, by1 = ball.getPos().y, br = ball.getR();
+
+        // Circle around the ball's path this tick, grown by the furthest any spirit moved
+        float mx = bx1 - bx0, my = by1 - by0;
+        float reach = br + 0.5f * (float) Math.sqrt(mx * mx + my * my) + maxSpiritMove;
+        float cx = (bx0 + bx1) * 0.5f, cy = (by0 + by1) * 0.5f;
+
+        int bt = ball.getType().ordinal();
+        for (int t : matrix.targets[bt]) {
+            int k = bt * PhantomType.COUNT + t;
+            float spiritDamage = matrix.spiritDamage[k] * dt, spiritHeal = matrix.spiritHeal[k] * dt;
+            float ballHeal = matrix.ballHeal[k] * dt, ballDamage = matrix.ballDamage[k] * dt;
+
+            int n = grids[t].query(cx, cy, reach, candidates);
+            for (int c = 0; c < n; c++) {
+                int i = candidates.get(c);
+
+                // Ball-relative offset at the start and end of the tick
+                float dx0 = bx0 - s.px[i], dy0 = by0 - s.py[i];
+                float dx1 = bx1 - s.x[i], dy1 = by1 - s.y[i];
+                float f = overlapFraction(dx0, dy0, dx1, dy1, br + s.r[i]);
+                if (f <= 0f) continue;
+                if (s.isDead(i)) continue; // already eaten by another ball this tick
+
+                float dealt = s.applyContact(i, spiritDamage * f, spiritHeal * f);
+                ballXp[b] += dealt * xpPerDamage;
+                ballGrow[b] += ballHeal * f;
+                this.ballDamage[b] += ballDamage * f;
+
+                if (dealt > 0f && s.isDead(i)) {
+                    kills++;
+                    dead.add(i);
+                }
+            }
+        }
+    }
+
+    /** Part of [0, 1] where |d0 + (d1 - d0) t| <= rr (time of impact to time of separation). */
+    private static float overlapFraction(float dx0, float dy0, float dx1, float dy1, float rr) {
+        // Cheap reject: the offset's path stays outside the circle's bounding box
+        if (Math.min(dx0, dx1) > rr || Math.max(dx0, dx1) < -rr) return 0f;
+        if (Math.min(dy0, dy1) > rr || Math.max(dy0, dy1) < -rr) return 0f;
+
+        float vx = dx1 - dx0, vy = dy1 - dy0;
+        float a = vx * vx + vy * vy;
+        float c = dx0 * dx0 + dy0 * dy0 - rr * rr;
+
+        // No relative motion: overlapping for the whole tick or not at all
+        if (a < 1e-8f) return c <= 0f ? 1f : 0f;
+
+        float halfB = dx0 * vx + dy0 * vy;
+        float disc = halfB * halfB - a * c;
+        if (disc < 0f) return 0f;
+
+        float sq = (float) Math.sqrt(disc);
+        float enter = Math.max(0f, (-halfB - sq) / a);
+        float exit = Math.min(1f, (-halfB + sq) / a);
+        return exit > enter ? exit - enter : 0f;
+    }
+}
@@ -0,0 +1,48 @@
+package com.boltstorms.phantomball.gameplay;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * {@link Pool} that also counts live objects, their high-water mark and how many
+ * objects were ever created, so pre-warm sizes can be checked against real play.
+ */
+public abstract class EntityPool<T> extends Pool<T> {
+
+    private int live = 0;
+    private int livePeak = 0;
+    private int created = 0;
+
+    protected EntityPool(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    /** Creates {@code count} free objects up front. */
+    public void prewarm(int count) {
+        fill(count - getFree());
+    }
+
+    @Override
+    public T obtain() {
+        T obj = super.obtain();
+        if (++live > livePeak) livePeak = live;
+        return obj;
+    }
+
+    @Override
+    public void free(T obj) {
+        super.free(obj);
+        live--;
+    }
+
+    @Override
+    protected final T newObject() {
+        created++;
+        return create();
+    }
+
+    protected abstract T create();
+
+    public int getLive() { return live; }
+    public int getLivePeak() { return livePeak; }
+    public int getCreated() { return created; }
+}
@@ -0,0 +1,61 @@
+package com.boltstorms.phantomball.gameplay;
+
+/**
+ * What touching does, for every (ball type, spirit type) pair: per-second rates the spirit
+ * loses/gains and the ball gains/loses, indexed [ballType * COUNT + spiritType].
+ *
+ * The default table follows the game rule: same color, the ball drains the spirit and
+ * grows; any other color, the spirit hurts the ball and grows. Contact code only reads
+ * the rates, so it never branches on type. Like SimTuning, treat as read-only once a
+ * world uses it.
+ */
+public final class InteractionMatrix {
+
+    private static final int COUNT = PhantomType.COUNT;
+
+    final float[] spiritDamage = new float[COUNT * COUNT];
+    final float[] spiritHeal = new float[COUNT * COUNT];
+    final float[] ballHeal = new float[COUNT * COUNT];
+    final float[] ballDamage = new float[COUNT * COUNT];
+
+    // Per ball type: the spirit types it has any effect on (only those are queried)
+    final int[][] targets = new int[COUNT][];
+
+    /** The default table from a tuning's four combat rates. */
+    public InteractionMatrix(SimTuning tuning) {
+        for (PhantomType ball : PhantomType.ALL) {
+            for (PhantomType spirit : PhantomType.ALL) {
+                if (ball == spirit) set(ball, spirit, tuning.propDrainRate, 0f, tuning.ballGrowRate, 0f);
+                else set(ball, spirit, 0f, tuning.spiritGrowthRate, 0f, tuning.ballDamageRate);
+            }
+        }
+    }
+
+    /** Replaces one entry; all rates are per second of contact. */
+    public void set(PhantomType ball, PhantomType spirit,
+                    float spiritDamage, float spiritHeal, float ballHeal, float ballDamage) {
+        int k = ball.ordinal() * COUNT + spirit.ordinal();
+        this.spiritDamage[k] = spiritDamage;
+        this.spiritHeal[k] = spiritHeal;
+        this.ballHeal[k] = ballHeal;
+        this.ballDamage[k] = ballDamage;
+        buildTargets(ball.ordinal());
+    }
+
+    public boolean interacts(PhantomType ball, PhantomType spirit) {
+        int k = ball.ordinal() * COUNT + spirit.ordinal();
+        return spiritDamage[k] != 0f || spiritHeal[k] != 0f || ballHeal[k] != 0f || ballDamage[k] != 0f;
+    }
+
+    private void buildTargets(int ball) {
+        int n = 0;
+        int[] tmp = new int[COUNT];
+        for (PhantomType spirit : PhantomType.ALL) {
+            if (interacts(PhantomType.ALL[ball], spirit)) tmp[n++] = spirit.ordinal();
+        }
+
+        int[] out = new int[n];
+        System.arraycopy(tmp, 0, out, 0, n);
+        targets[ball] = out;
+    }
+}
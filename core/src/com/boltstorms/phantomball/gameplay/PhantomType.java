@@ -1,6 +1,14 @@
 package com.boltstorms.phantomball.gameplay;
 
+/**
+ * Ball and spirit colors. Per-type state everywhere is indexed by ordinal, so a new value
+ * only needs its art (renderers, cards) and, optionally, curves in the progression data.
+ */
 public enum PhantomType {
     BLUE,
-    RED
+    RED;
+
+    /** Same as values(), without the copy. Do not modify. */
+    public static final PhantomType[] ALL = values();
+    public static final int COUNT = ALL.length;
 }
@@ -0,0 +1,37 @@
+package com.boltstorms.phantomball.gameplay;
+
+import com.boltstorms.phantomball.gameplay.stats.BallProgression;
+import com.boltstorms.phantomball.util.Const;
+
+/**
+ * Combat rates and level curves one world plays with. Defaults to the values in
+ * {@link Const} and the shared {@link BallProgression}; balancing runs pass their own.
+ * Treat as read-only once a world uses it (worlds may share one across threads).
+ */
+public final class SimTuning {
+
+    private static final SimTuning DEFAULTS = new SimTuning();
+
+    // Correct-color contact: spirit loses HP/sec, ball gains HP/sec
+    public float propDrainRate = Const.PROP_DRAIN_RATE;
+    public float ballGrowRate = Const.BALL_GROW_RATE;
+
+    // Wrong-color contact: ball loses HP/sec, spirit gains HP/sec
+    public float ballDamageRate = Const.BALL_DAMAGE_RATE;
+    public float spiritGrowthRate = Const.SPIRIT_GROWTH_RATE;
+
+    public float xpPerDamage = Const.XP_PER_DAMAGE;
+    public float driftNudgeTime = Const.DRIFT_NUDGE_TIME;
+
+    public BallProgression progression = BallProgression.defaults();
+
+    // Per type-pair contact rates; null = built from the four rates above
+    public InteractionMatrix interactions = null;
+
+    /** {@link #interactions}, or the default table for the current rates. */
+    public InteractionMatrix interactionsOrDefault() {
+        return interactions != null ? interactions : new InteractionMatrix(this);
+    }
+
+    public static SimTuning defaults() { return DEFAULTS; }
+}
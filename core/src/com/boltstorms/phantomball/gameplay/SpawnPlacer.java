@@ -0,0 +1,299 @@
+package com.boltstorms.phantomball.gameplay;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.boltstorms.phantomball.gameplay.spatial.SpatialHash;
+import com.boltstorms.phantomball.util.Const;
+
+/**
+ * Spawn positions for spirits, clear of balls ({@link Const#SPAWN_BALL_CLEARANCE}) and of
+ * other spirits ({@link Const#SPAWN_SPIRIT_CLEARANCE}).
+ *
+ * Spots come from a pool of Poisson-disc points (Bridson: a background grid of one point
+ * per cell, grown by darting candidates around active points) that fills the free part of
+ * the arena and is handed out in shuffled order, so a batch spreads evenly and never lands
+ * on itself. Each point is checked against the current grids when handed out, since things
+ * move; the pool is refilled when it runs dry or a bigger spirit needs room. A refill is
+ * linear in the arena's cells and a placement is O(1), so batches of thousands are linear.
+ *
+ * If a fresh pool is already used up (saturated arena), a spirit gets the first free one
+ * of {@link Const#SPAWN_PLACE_ATTEMPTS} random spots (free of the rest of its batch too),
+ * or keeps the store's random spot if none is free. All randomness is the world's.
+ */
+final class SpawnPlacer {
+
+    // Bridson's k, and random seeds missed in a row before a refill gives up
+    private static final int CANDIDATES = 30;
+    private static final int SEED_ATTEMPTS = 30;
+
+    // Unbinned placements the fallback scans before it re-bins them
+    private static final int MAX_UNBINNED = 64;
+
+    private final SpiritStore spirits;
+    private final SpatialHash spiritGrid;
+    private final Array<Ball> balls;
+    private final SpatialHash ballGrid;
+    private final RandomXS128 rng;
+    private final IntArray candidates = new IntArray(64);
+
+    private float W, H;
+    private float spawnRadius;
+
+    // Shuffled points for spirits up to poolR; poolX/Y[poolNext ..) are unused
+    private float poolR = 0f;
+    private float[] poolX = new float[0], poolY = new float[0];
+    private int poolSize = 0, poolNext = 0;
+
+    // Filled since the spirit grid was last built: if it runs dry, the arena is full
+    private boolean poolFresh = false;
+
+    // Background grid for refills: pool index per cell, -1 = empty
+    private int[] cellPoint = new int[0];
+    private int cols, rows;
+    private float invCell;
+    private final IntArray active = new IntArray();
+
+    // Spirits placed since the spirit grid was last built (x, y, r); the first `binned`
+    // are in placedGrid (binned on refill, and by the fallback when too many are not)
+    private final FloatArray placed = new FloatArray();
+    private final SpatialHash placedGrid = new SpatialHash();
+    private int binned = 0;
+
+    SpawnPlacer(SpiritStore spirits, SpatialHash spiritGrid, Array<Ball> balls, SpatialHash ballGrid, RandomXS128 rng) {
+        this.spirits = spirits;
+        this.spiritGrid = spiritGrid;
+        this.balls = balls;
+        this.ballGrid = ballGrid;
+        this.rng = rng;
+    }
+
+    /**
+     * New arena size; {@code cellSize} as for the spirit grid, {@code spawnRadius} the
+     * largest radius a spirit spawns with (spaces the pool). Drops the pool.
+     */
+    void configure(float W, float H, float cellSize, float spawnRadius) {
+        this.W = W;
+        this.H = H;
+        this.spawnRadius = spawnRadius;
+        placedGrid.configure(W, H, cellSize);
+        reset();
+    }
+
+    void reset() {
+        poolR = spawnRadius;
+        poolSize = poolNext = 0;
+        poolFresh = false;
+        placed.clear();
+        binned = 0;
+    }
+
+    /** The spirit grid was rebuilt: it now holds everything placed so far. */
+    void onGridRebuilt() {
+        placed.clear();
+        binned = 0;
+        poolFresh = false;
+    }
+
+    /** Moves spirit {@code i} (already sized) to a free spot. */
+    void place(int i) {
+        float r = spirits.getR(i);
+        if (r > poolR) {
+            poolR = r;
+            refill();
+        }
+
+        while (true) {
+            while (poolNext < poolSize) {
+                float x = poolX[poolNext], y = poolY[poolNext];
+                poolNext++;
+                if (isClear(i, x, y, r)) {
+                    put(i, x, y, r);
+                    return;
+                }
+            }
+            if (poolFresh) break;
+            refill();
+        }
+
+        fallback(i, r);
+    }
+
+    private void put(int i, float x, float y, float r) {
+        spirits.setPosition(i, x, y);
+        placed.add(x, y, r);
+    }
+
+    // First free random spot; the store's own roll counts as the first try and is kept if none is
+    private void fallback(int i, float r) {
+        if (placed.size / 3 - binned > MAX_UNBINNED) binPlaced();
+
+        float x0 = spirits.getX(i), y0 = spirits.getY(i);
+        if (!isClear(i, x0, y0, r) || !clearOfPlaced(x0, y0, r)) {
+            for (int attempt = 1; attempt < Const.SPAWN_PLACE_ATTEMPTS; attempt++) {
+                float x = random(r, W - r), y = random(r, H - r);
+                if (isClear(i, x, y, r) && clearOfPlaced(x, y, r)) {
+                    put(i, x, y, r);
+                    return;
+                }
+            }
+        }
+        put(i, x0, y0, r);
+    }
+
+    // ===================== CLEARANCE =====================
+
+    /** True if a spirit of radius r fits at (x, y) with clearance from every ball and spirit in the grids but {@code self}. */
+    private boolean isClear(int self, float x, float y, float r) {
+        int n = ballGrid.query(x, y, r + Const.SPAWN_BALL_CLEARANCE, candidates);
+        for (int k = 0; k < n; k++) {
+            Ball ball = balls.get(candidates.get(k));
+            if (touches(ball.getPos().x - x, ball.getPos().y - y, ball.getR() + r + Const.SPAWN_BALL_CLEARANCE)) return false;
+        }
+
+        n = spiritGrid.query(x, y, r + Const.SPAWN_SPIRIT_CLEARANCE, candidates);
+        for (int k = 0; k < n; k++) {
+            int j = candidates.get(k);
+            if (j == self) continue;
+            if (touches(spirits.getX(j) - x, spirits.getY(j) - y, spirits.getR(j) + r + Const.SPAWN_SPIRIT_CLEARANCE)) return false;
+        }
+        return true;
+    }
+
+    // Free for the pool: clear of everything above and of spirits placed since the last grid build
+    private boolean clearForPool(float x, float y) {
+        return isClear(-1, x, y, poolR) && clearOfPlaced(x, y, poolR);
+    }
+
+    /** True if a spirit of radius r at (x, y) keeps clearance from every spirit placed since the last grid build. */
+    private boolean clearOfPlaced(float x, float y, float r) {
+        float reach = r + Const.SPAWN_SPIRIT_CLEARANCE;
+        if (binned > 0) {
+            int n = placedGrid.query(x, y, reach, candidates);
+            for (int k = 0; k < n; k++) {
+                int p = candidates.get(k) * 3;
+                if (touches(placed.get(p) - x, placed.get(p + 1) - y, placed.get(p + 2) + reach)) return false;
+            }
+        }
+        for (int p = binned * 3; p < placed.size; p += 3) {
+            if (touches(placed.get(p) - x, placed.get(p + 1) - y, placed.get(p + 2) + reach)) return false;
+        }
+        return true;
+    }
+
+    private static boolean touches(float dx, float dy, float rr) {
+        return dx * dx + dy * dy < rr * rr;
+    }
+
+    // ===================== POISSON DISC =====================
+
+    private void refill() {
+        poolSize = poolNext = 0;
+        poolFresh = true;
+
+        // Centers stay r from the walls
+        float minX = poolR, minY = poolR;
+        float spanX = W - 2f * poolR, spanY = H - 2f * poolR;
+        if (spanX <= 0f || spanY <= 0f) return;
+
+        binPlaced();
+
+        // Spacing fits two of the largest spirits; a cell (d / sqrt 2) holds at most one point
+        float d = 2f * poolR + Const.SPAWN_SPIRIT_CLEARANCE;
+        float cell = d * 0.70710677f;
+        invCell = 1f / cell;
+        cols = Math.max(1, (int) Math.ceil(spanX * invCell));
+        rows = Math.max(1, (int) Math.ceil(spanY * invCell));
+
+        int cells = cols * rows;
+        if (cellPoint.length < cells) {
+            cellPoint = new int[cells];
+            poolX = new float[cells];
+            poolY = new float[cells];
+        }
+        for (int c = 0; c < cells; c++) cellPoint[c] = -1;
+
+        // Seed anywhere free, grow from it until no active point has room, then reseed
+        // (obstacles can leave islands a single seed never reaches)
+        active.clear();
+        for (int misses = 0; misses < SEED_ATTEMPTS; ) {
+            if (!tryAdd(minX + rng.nextFloat() * spanX, minY + rng.nextFloat() * spanY, minX, minY, d)) {
+                misses++;
+                continue;
+            }
+            misses = 0;
+
+            while (active.size > 0) {
+                int a = rng.nextInt(active.size);
+                int p = active.get(a);
+
+                boolean grew = false;
+                for (int k = 0; k < CANDIDATES && !grew; k++) {
+                    float angle = rng.nextFloat() * MathUtils.PI2;
+                    float dist = d * (1f + rng.nextFloat());
+                    float x = poolX[p] + MathUtils.cos(angle) * dist;
+                    float y = poolY[p] + MathUtils.sin(angle) * dist;
+                    if (x < minX || y < minY || x > minX + spanX || y > minY + spanY) continue;
+                    grew = tryAdd(x, y, minX, minY, d);
+                }
+
+                if (!grew) {
+                    active.set(a, active.peek());
+                    active.pop();
+                }
+            }
+        }
+
+        // Hand out in random order so a partial batch is spread over the whole arena
+        for (int k = poolSize - 1; k > 0; k--) {
+            int j = rng.nextInt(k + 1);
+            float tx = poolX[k], ty = poolY[k];
+            poolX[k] = poolX[j];
+            poolY[k] = poolY[j];
+            poolX[j] = tx;
+            poolY[j] = ty;
+        }
+    }
+
+    private boolean tryAdd(float x, float y, float minX, float minY, float d) {
+        int cx = Math.min(cols - 1, (int) ((x - minX) * invCell));
+        int cy = Math.min(rows - 1, (int) ((y - minY) * invCell));
+        if (cellPoint[cy * cols + cx] >= 0) return false;
+
+        // Any point closer than d sits within two cells
+        float d2 = d * d;
+        for (int ny = Math.max(0, cy - 2), ey = Math.min(rows - 1, cy + 2); ny <= ey; ny++) {
+            for (int nx = Math.max(0, cx - 2), ex = Math.min(cols - 1, cx + 2); nx <= ex; nx++) {
+                int p = cellPoint[ny * cols + nx];
+                if (p < 0) continue;
+
+                float dx = poolX[p] - x, dy = poolY[p] - y;
+                if (dx * dx + dy * dy < d2) return false;
+            }
+        }
+
+        if (!clearForPool(x, y)) return false;
+
+        int p = poolSize++;
+        poolX[p] = x;
+        poolY[p] = y;
+        cellPoint[cy * cols + cx] = p;
+        active.add(p);
+        return true;
+    }
+
+    private void binPlaced() {
+        placedGrid.clear();
+        for (int p = 0, n = placed.size / 3; p < n; p++) {
+            placedGrid.insert(p, placed.get(p * 3), placed.get(p * 3 + 1), placed.get(p * 3 + 2));
+        }
+        placedGrid.build();
+        binned = placed.size / 3;
+    }
+
+    private float random(float min, float max) {
+        return min + rng.nextFloat() * (max - min);
+    }
+}
@@ -0,0 +1,158 @@
+package com.boltstorms.phantomball.gameplay;
+
+import com.boltstorms.phantomball.gameplay.spatial.SpatialHash;
+import com.boltstorms.phantomball.util.Const;
+
+/**
+ * Spirit-vs-spirit separation and bounce, one Gauss-Seidel pass per call.
+ *
+ * Pairs come from the spirit grid: each cell is checked against itself and its four
+ * "forward" neighbours (right, and the three below), so every pair is seen once. The grid's
+ * cell size is at least the largest spirit diameter, so no overlapping pair is missed.
+ * Spirits are gathered into scratch arrays in cell order first, so a cell and its
+ * neighbours are contiguous in memory, then scattered back. Mass is HP (heavier spirits
+ * get pushed less); restitution is {@link Const#SPIRIT_RESTITUTION}.
+ *
+ * Runs on the sim thread in a fixed order, so results are deterministic.
+ */
+final class SpiritCollider {
+
+    private static final float MIN_MASS = 1f;
+
+    private final SpiritStore store;
+
+    // Spirits in cell order: slot k holds spirit id[k]
+    private int[] id = new int[0];
+    private float[] x = new float[0], y = new float[0];
+    private float[] vx = new float[0], vy = new float[0];
+    private float[] r = new float[0], invMass = new float[0];
+
+    SpiritCollider(SpiritStore store) {
+        this.store = store;
+    }
+
+    /** Pre-sizes scratch storage for up to {@code spirits} spirits. */
+    void ensureCapacity(int spirits) {
+        if (spirits <= id.length) return;
+        id = new int[spirits];
+        x = new float[spirits];
+        y = new float[spirits];
+        vx = new float[spirits];
+        vy = new float[spirits];
+        r = new float[spirits];
+        invMass = new float[spirits];
+    }
+
+    /**
+     * Separates and bounces overlapping spirits. {@code grid} must hold every spirit
+     * (ids = store indices); it is only read, positions are not re-binned.
+     */
+    void resolve(SpatialHash grid, float W, float H) {
+        int n = grid.size();
+        if (n < 2) return;
+
+        ensureCapacity(n);
+        gather(grid, n);
+
+        int cols = grid.getCols(), rows = grid.getRows();
+        for (int cy = 0; cy < rows; cy++) {
+            for (int cx = 0; cx < cols; cx++) {
+                int c = cy * cols + cx;
+                int from = grid.cellStart(c), to = grid.cellStart(c + 1);
+                if (from == to) continue;
+
+                // Pairs inside the cell
+                for (int a = from; a < to; a++) {
+                    for (int b = a + 1; b < to; b++) resolvePair(a, b);
+                }
+
+                // Forward neighbours
+                if (cx + 1 < cols) against(from, to, grid, c + 1);
+                if (cy + 1 < rows) {
+                    int below = c + cols;
+                    if (cx > 0) against(from, to, grid, below - 1);
+                    against(from, to, grid, below);
+                    if (cx + 1 < cols) against(from, to, grid, below + 1);
+                }
+            }
+        }
+
+        scatter(n, W, H);
+    }
+
+    private void against(int from, int to, SpatialHash grid, int other) {
+        int oFrom = grid.cellStart(other), oTo = grid.cellStart(other + 1);
+        for (int a = from; a < to; a++) {
+            for (int b = oFrom; b < oTo; b++) resolvePair(a, b);
+        }
+    }
+
+    private void resolvePair(int a, int b) {
+        float dx = x[b] - x[a];
+        float dy = y[b] - y[a];
+        float rr = r[a] + r[b];
+        float d2 = dx * dx + dy * dy;
+        if (d2 >= rr * rr) return;
+
+        float d = (float) Math.sqrt(d2);
+        float nx, ny;
+        if (d > 1e-4f) {
+            nx = dx / d;
+            ny = dy / d;
+        } else {
+            // Exactly on top of each other: split sideways
+            nx = 1f;
+            ny = 0f;
+        }
+
+        float wa = invMass[a], wb = invMass[b];
+        float k = 1f / (wa + wb);
+
+        // Push apart along the normal, lighter spirit moves more
+        float push = (rr - d) * k;
+        x[a] -= nx * push * wa;
+        y[a] -= ny * push * wa;
+        x[b] += nx * push * wb;
+        y[b] += ny * push * wb;
+
+        // Bounce only if still approaching
+        float vn = (vx[b] - vx[a]) * nx + (vy[b] - vy[a]) * ny;
+        if (vn >= 0f) return;
+
+        float j = -(1f + Const.SPIRIT_RESTITUTION) * vn * k;
+        vx[a] -= nx * j * wa;
+        vy[a] -= ny * j * wa;
+        vx[b] += nx * j * wb;
+        vy[b] += ny * j * wb;
+    }
+
+    // ===================== GATHER / SCATTER =====================
+
+    private void gather(SpatialHash grid, int n) {
+        SpiritStore s = store;
+        for (int k = 0; k < n; k++) {
+            int i = grid.itemAt(k);
+            id[k] = i;
+            x[k] = s.x[i];
+            y[k] = s.y[i];
+            vx[k] = s.vx[i];
+            vy[k] = s.vy[i];
+            r[k] = s.r[i];
+            invMass[k] = 1f / Math.max(MIN_MASS, s.hp[i]);
+        }
+    }
+
+    private void scatter(int n, float W, float H) {
+        SpiritStore s = store;
+        for (int k = 0; k < n; k++) {
+            int i = id[k];
+            float rk = r[k];
+
+            // Separation never pushes a spirit through a wall
+            s.x[i] = Math.max(rk, Math.min(W - rk, x[k]));
+            s.y[i] = Math.max(rk, Math.min(H - rk, y[k]));
+            s.vx[i] = vx[k];
+            s.vy[i] = vy[k];
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.boltstorms.phantomball.gameplay;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.boltstorms.phantomball.util.Const;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Per-tick spirit movement (nudge, move, walls) split into fixed-size chunks.
+ *
+ * Each chunk only writes its own spirits. Chunks are the same in serial and parallel mode
+ * and nudge with a per-chunk RNG seeded from the tick, so both modes produce identical
+ * results. Ball contact runs afterwards on the sim thread ({@link BallContacts}).
+ */
+final class SpiritStepper {
+
+    private final SpiritStore store;
+
+    // One nudge RNG per chunk, reseeded every tick
+    private RandomXS128[] rngs = new RandomXS128[0];
+
+    private int chunkSize = Const.SPIRIT_CHUNK_SIZE;
+    private int parallelThreshold = Const.PARALLEL_SPIRIT_THRESHOLD;
+
+    // Task tree for the last chunk count, reused every parallel tick
+    private ChunkTask tasks;
+    private int taskChunks = -1;
+
+    // Per-tick inputs
+    private float dt, W, H;
+    private boolean nudge;
+    private long tickSeed;
+
+    SpiritStepper(SpiritStore store) {
+        this.store = store;
+    }
+
+    /** Allocates per-chunk state for up to {@code spirits} spirits ahead of time. */
+    void prewarm(int spirits) {
+        ensureChunks((spirits + chunkSize - 1) / chunkSize);
+    }
+
+    void setParallelThreshold(int spirits) { parallelThreshold = spirits; }
+    int getParallelThreshold() { return parallelThreshold; }
+
+    /** Returns true if the chunks ran on the fork-join pool. */
+    boolean step(float dt, float W, float H, boolean nudge, long tickSeed) {
+        this.dt = dt;
+        this.W = W;
+        this.H = H;
+        this.nudge = nudge;
+        this.tickSeed = tickSeed;
+
+        int n = store.size();
+        int chunkCount = (n + chunkSize - 1) / chunkSize;
+        ensureChunks(chunkCount);
+
+        ForkJoinPool pool = (n >= parallelThreshold && chunkCount > 1) ? Workers.pool() : null;
+        if (pool == null) {
+            for (int c = 0; c < chunkCount; c++) runChunk(c);
+            return false;
+        }
+
+        if (taskChunks != chunkCount) {
+            tasks = new ChunkTask(0, chunkCount);
+            taskChunks = chunkCount;
+        } else {
+            tasks.reset();
+        }
+        pool.invoke(tasks);
+        return true;
+    }
+
+    private void ensureChunks(int count) {
+        if (rngs.length >= count) return;
+        RandomXS128[] grown = new RandomXS128[count];
+        System.arraycopy(rngs, 0, grown, 0, rngs.length);
+        for (int c = rngs.length; c < count; c++) grown[c] = new RandomXS128();
+        rngs = grown;
+    }
+
+    private void runChunk(int c) {
+        int from = c * chunkSize;
+        int to = Math.min(store.size(), from + chunkSize);
+
+        if (nudge) {
+            RandomXS128 rng = rngs[c];
+            rng.setSeed(tickSeed + c);
+            store.nudgeRange(from, to, rng);
+        }
+        store.updateRange(from, to, dt, W, H);
+    }
+
+    /** Splits [lo, hi) in halves down to single chunks; the whole tree is built once. */
+    private final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int lo;
+        private final ChunkTask left, right;
+
+        ChunkTask(int lo, int hi) {
+            this.lo = lo;
+            if (hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                left = new ChunkTask(lo, mid);
+                right = new ChunkTask(mid, hi);
+            } else {
+                left = right = null;
+            }
+        }
+
+        // A finished task only runs again after reinitialize()
+        void reset() {
+            reinitialize();
+            if (left != null) {
+                left.reset();
+                right.reset();
+            }
+        }
+
+        @Override
+        protected void compute() {
+            if (left == null) {
+                runChunk(lo);
+                return;
+            }
+            invokeAll(left, right);
+        }
+    }
+
+    /** Lazily created shared pool; null where fork-join is unavailable (Android < 5.0). */
+    private static final class Workers {
+        private static final ForkJoinPool POOL = create();
+
+        private static ForkJoinPool create() {
+            try {
+                return new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors()));
+            } catch (LinkageError e) {
+                return null;
+            }
+        }
+
+        static ForkJoinPool pool() { return POOL; }
+    }
+}
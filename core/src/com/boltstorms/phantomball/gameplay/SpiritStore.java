@@ -0,0 +1,291 @@
+package com.boltstorms.phantomball.gameplay;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.boltstorms.phantomball.gameplay.stats.BallProgression;
+import com.boltstorms.phantomball.gameplay.stats.BallStats;
+import com.boltstorms.phantomball.util.Const;
+
+import java.util.Random;
+
+/**
+ * All evil spirits of a world, stored as parallel primitive arrays (structure of arrays).
+ *
+ * A spirit is just an index in [0, size()). Removal is swap-remove, so indices are only
+ * stable until the next remove(). The per-level stats the hot loops need are copied into
+ * their own arrays so update/collide never chase a BallStats reference.
+ */
+public final class SpiritStore {
+
+    private int size = 0;
+
+    // High-water mark of size() and how often the arrays had to grow after creation
+    private int peakSize = 0;
+    private int growCount = 0;
+
+    // state (px/py = position at the start of the last tick, for render interpolation)
+    float[] x, y, px, py, vx, vy, hp, r;
+    int[] level, type, sprite;
+
+    // level range every (re)spawn rolls from
+    int[] lvLo, lvHi;
+
+    // cached stats for the current level
+    float[] speed, maxHp, resistance, minR, maxR;
+
+    // Level/position/direction rolls (the owning world's RNG, so runs replay exactly)
+    private final Random rng;
+    private final BallProgression progression;
+
+    public SpiritStore(int capacity) {
+        this(capacity, new RandomXS128(), BallProgression.defaults());
+    }
+
+    public SpiritStore(int capacity, Random rng, BallProgression progression) {
+        this.rng = rng;
+        this.progression = progression;
+        allocate(Math.max(4, capacity));
+    }
+
+    public int size() { return size; }
+    public int capacity() { return x.length; }
+    public int getPeakSize() { return peakSize; }
+    public int getGrowCount() { return growCount; }
+
+    /** Pre-sizes storage so spawning up to {@code capacity} spirits never allocates. */
+    public void ensureCapacity(int capacity) {
+        if (capacity > x.length) allocate(capacity);
+    }
+
+    public void clear() { size = 0; }
+
+    // ===================== ADD / REMOVE =====================
+
+    /** Adds a spirit at a random level in the Const spawn range (see below). */
+    public int spawn(PhantomType t, float W, float H) {
+        return spawn(t, W, H, Const.SPIRIT_MIN_LV, Const.SPIRIT_MAX_LV);
+    }
+
+    /**
+     * Adds a spirit at a random level in [minLevel, maxLevel] and a random position, moving
+     * in a random direction. Respawns roll from the same range.
+     */
+    public int spawn(PhantomType t, float W, float H, int minLevel, int maxLevel) {
+        if (size == x.length) {
+            allocate(size * 2);
+            growCount++;
+        }
+
+        int i = size++;
+        if (size > peakSize) peakSize = size;
+        type[i] = t.ordinal();
+        lvLo[i] = Math.max(1, minLevel);
+        lvHi[i] = Math.max(lvLo[i], maxLevel);
+        respawn(i, W, H);
+        return i;
+    }
+
+    /**
+     * Swap-remove. Returns the old index of the spirit that now lives at {@code i},
+     * or -1 if {@code i} was the last one.
+     */
+    public int remove(int i) {
+        int last = --size;
+        if (i == last) return -1;
+
+        x[i] = x[last]; y[i] = y[last];
+        px[i] = px[last]; py[i] = py[last];
+        vx[i] = vx[last]; vy[i] = vy[last];
+        hp[i] = hp[last]; r[i] = r[last];
+        level[i] = level[last]; type[i] = type[last]; sprite[i] = sprite[last];
+        lvLo[i] = lvLo[last]; lvHi[i] = lvHi[last];
+        speed[i] = speed[last]; maxHp[i] = maxHp[last]; resistance[i] = resistance[last];
+        minR[i] = minR[last]; maxR[i] = maxR[last];
+        return last;
+    }
+
+    /** Re-rolls level, HP, position, velocity and sprite; keeps the type. */
+    public void respawn(int i, float W, float H) {
+        setLevel(i, lvLo[i] + rng.nextInt(lvHi[i] - lvLo[i] + 1));
+
+        // Start at 50% HP -> mid size
+        hp[i] = maxHp[i] * 0.5f;
+        syncRadiusToHp(i);
+
+        setPosition(i, random(r[i], W - r[i]), random(r[i], H - r[i]));
+
+        randomizeVelocity(i);
+        sprite[i] = rng.nextBoolean() ? 1 : 0;
+    }
+
+    private void setLevel(int i, int newLevel) {
+        int lv = Math.max(1, newLevel);
+        BallStats s = progression.stats(PhantomType.ALL[type[i]], lv);
+
+        level[i] = lv;
+        speed[i] = s.speed;
+        maxHp[i] = s.maxHp;
+        resistance[i] = s.resistance;
+        minR[i] = s.minRadius;
+        maxR[i] = s.maxRadius;
+    }
+
+    // ===================== SIZE / HP =====================
+
+    private void syncRadiusToHp(int i) {
+        float hpPct = (maxHp[i] <= 0f) ? 1f : MathUtils.clamp(hp[i] / maxHp[i], 0f, 1f);
+
+        // Spirits slightly smaller than balls; lerp stays inside [minR, maxR]
+        r[i] = (minR[i] + (maxR[i] - minR[i]) * hpPct) * Const.SPIRIT_SIZE_SCALE;
+    }
+
+    /** Returns the HP actually removed. */
+    public float takeDamage(int i, float amount) {
+        float dmg = amount * (1f - resistance[i]);
+
+        float oldHp = hp[i];
+        hp[i] = MathUtils.clamp(oldHp - dmg, 0f, maxHp[i]);
+        syncRadiusToHp(i);
+        return oldHp - hp[i];
+    }
+
+    public void heal(int i, float amount) {
+        hp[i] = MathUtils.clamp(hp[i] + amount, 0f, maxHp[i]);
+        syncRadiusToHp(i);
+    }
+
+    /**
+     * Contact damage (reduced by resistance) and healing in one update; returns the HP the
+     * damage removed.
+     */
+    public float applyContact(int i, float damage, float heal) {
+        float dmg = damage * (1f - resistance[i]);
+
+        float oldHp = hp[i];
+        hp[i] = MathUtils.clamp(oldHp - dmg + heal, 0f, maxHp[i]);
+        syncRadiusToHp(i);
+        return Math.min(dmg, oldHp);
+    }
+
+    public boolean isDead(int i) {
+        return hp[i] <= 0.001f;
+    }
+
+    /** Same as MathUtils.random(min, max), from this store's RNG. */
+    float random(float min, float max) {
+        return min + rng.nextFloat() * (max - min);
+    }
+
+    // ===================== MOVEMENT =====================
+
+    private void randomizeVelocity(int i) {
+        float angle = random(0f, 360f);
+
+        // Safety: never stop moving
+        float spd = speed[i] < 60f ? 120f : speed[i];
+        vx[i] = MathUtils.cosDeg(angle) * spd;
+        vy[i] = MathUtils.sinDeg(angle) * spd;
+    }
+
+    /** Rotates velocities by up to +-25 degrees; [from, to) so chunks can run in parallel. */
+    public void nudgeRange(int from, int to, Random rng) {
+        for (int i = from; i < to; i++) {
+            float a = -25f + rng.nextFloat() * 50f;
+            float c = MathUtils.cosDeg(a);
+            float s = MathUtils.sinDeg(a);
+
+            float nx = vx[i] * c - vy[i] * s;
+            float ny = vx[i] * s + vy[i] * c;
+
+            float len = (float) Math.sqrt(nx * nx + ny * ny);
+            float k = len > 0f ? speed[i] / len : 0f;
+            vx[i] = nx * k;
+            vy[i] = ny * k;
+        }
+    }
+
+    public void updateRange(int from, int to, float dt, float W, float H) {
+        for (int i = from; i < to; i++) {
+            float ri = r[i];
+            float ox = x[i], oy = y[i];
+            float nx = ox + vx[i] * dt;
+            float ny = oy + vy[i] * dt;
+
+            if (nx < ri) { nx = ri; vx[i] = -vx[i]; }
+            if (nx > W - ri) { nx = W - ri; vx[i] = -vx[i]; }
+            if (ny < ri) { ny = ri; vy[i] = -vy[i]; }
+            if (ny > H - ri) { ny = H - ri; vy[i] = -vy[i]; }
+
+            px[i] = ox; py[i] = oy;
+            x[i] = nx;
+            y[i] = ny;
+        }
+    }
+
+    // ===================== COLLISION =====================
+
+    public boolean collides(int i, Ball ball) {
+        float dx = ball.getPos().x - x[i];
+        float dy = ball.getPos().y - y[i];
+        float rr = ball.getR() + r[i];
+        return dx * dx + dy * dy <= rr * rr;
+    }
+
+    // Tap hit-test (for level label)
+    public boolean containsPoint(int i, float tx, float ty) {
+        float dx = tx - x[i];
+        float dy = ty - y[i];
+        return dx * dx + dy * dy <= r[i] * r[i];
+    }
+
+    // ===================== GETTERS =====================
+
+    public float getX(int i) { return x[i]; }
+    public float getY(int i) { return y[i]; }
+    public float getR(int i) { return r[i]; }
+    public float getHp(int i) { return hp[i]; }
+    public int getLevel(int i) { return level[i]; }
+    public PhantomType getType(int i) { return PhantomType.ALL[type[i]]; }
+    public int getTypeOrdinal(int i) { return type[i]; }
+    public int getSprite(int i) { return sprite[i]; }
+
+    /** Position between the previous and current tick; alpha in [0, 1]. */
+    public float lerpX(int i, float alpha) { return px[i] + (x[i] - px[i]) * alpha; }
+    public float lerpY(int i, float alpha) { return py[i] + (y[i] - py[i]) * alpha; }
+
+    /** Teleport (spawn/respawn): no interpolation from the old spot. */
+    public void setPosition(int i, float nx, float ny) {
+        x[i] = px[i] = nx;
+        y[i] = py[i] = ny;
+    }
+
+    // ===================== STORAGE =====================
+
+    private void allocate(int capacity) {
+        x = grow(x, capacity); y = grow(y, capacity);
+        px = grow(px, capacity); py = grow(py, capacity);
+        vx = grow(vx, capacity); vy = grow(vy, capacity);
+        hp = grow(hp, capacity); r = grow(r, capacity);
+        speed = grow(speed, capacity); maxHp = grow(maxHp, capacity);
+        resistance = grow(resistance, capacity);
+        minR = grow(minR, capacity); maxR = grow(maxR, capacity);
+
+        level = grow(level, capacity);
+        type = grow(type, capacity);
+        sprite = grow(sprite, capacity);
+        lvLo = grow(lvLo, capacity);
+        lvHi = grow(lvHi, capacity);
+    }
+
+    private float[] grow(float[] src, int capacity) {
+        float[] dst = new float[capacity];
+        if (src != null) System.arraycopy(src, 0, dst, 0, size);
+        return dst;
+    }
+
+    private int[] grow(int[] src, int capacity) {
+        int[] dst = new int[capacity];
+        if (src != null) System.arraycopy(src, 0, dst, 0, size);
+        return dst;
+    }
+}
@@ -0,0 +1,77 @@
+package com.boltstorms.phantomball.gameplay;
+
+import com.boltstorms.phantomball.util.Const;
+
+/**
+ * Decides when a requested summon actually happens, per {@link PhantomType}: at most
+ * {@code maxActive} balls in play, {@code cooldown} seconds between summons, and up to
+ * {@link Const#SUMMON_QUEUE} requests held while either blocks (they fire on later ticks
+ * as soon as both allow).
+ *
+ * The classic rules (one ball per color, no cooldown) are maxActive 1, cooldown 0.
+ * Time only advances in {@link #tick}, so scheduling is part of the deterministic sim.
+ */
+public final class SummonScheduler {
+
+    private final int[] maxActive = new int[PhantomType.COUNT];
+    private final float[] cooldown = new float[PhantomType.COUNT];
+
+    private final float[] cooldownLeft = new float[PhantomType.COUNT];
+    private final int[] queued = new int[PhantomType.COUNT];
+
+    public SummonScheduler() {
+        for (int t = 0; t < PhantomType.COUNT; t++) {
+            maxActive[t] = Const.BALLS_PER_TYPE;
+            cooldown[t] = Const.SUMMON_COOLDOWN;
+        }
+    }
+
+    void setRules(int type, int maxActive, float cooldownSeconds) {
+        this.maxActive[type] = Math.max(1, maxActive);
+        this.cooldown[type] = Math.max(0f, cooldownSeconds);
+    }
+
+    public int getMaxActive(PhantomType type) { return maxActive[type.ordinal()]; }
+    public float getCooldown(PhantomType type) { return cooldown[type.ordinal()]; }
+
+    /** Seconds until {@code type} can be summoned again (0 = ready). */
+    public float getCooldownLeft(PhantomType type) { return cooldownLeft[type.ordinal()]; }
+
+    public int getQueued(PhantomType type) { return queued[type.ordinal()]; }
+
+    boolean canSummon(int type, int active) {
+        return active < maxActive[type] && cooldownLeft[type] <= 0f;
+    }
+
+    /** A summon request: true = summon now, false = queued (or dropped if the queue is full). */
+    boolean request(int type, int active) {
+        if (queued[type] == 0 && canSummon(type, active)) return true;
+        if (queued[type] < Const.SUMMON_QUEUE) queued[type]++;
+        return false;
+    }
+
+    /** True if a queued request for {@code type} should fire now (and takes it off the queue). */
+    boolean pollQueued(int type, int active) {
+        if (queued[type] == 0 || !canSummon(type, active)) return false;
+        queued[type]--;
+        return true;
+    }
+
+    void onSummoned(int type) {
+        cooldownLeft[type] = cooldown[type];
+    }
+
+    void tick(float dt) {
+        for (int t = 0; t < cooldownLeft.length; t++) {
+            if (cooldownLeft[t] > 0f) cooldownLeft[t] = Math.max(0f, cooldownLeft[t] - dt);
+        }
+    }
+
+    /** Clears cooldowns and queues; rules stay. */
+    void reset() {
+        for (int t = 0; t < PhantomType.COUNT; t++) {
+            cooldownLeft[t] = 0f;
+            queued[t] = 0;
+        }
+    }
+}
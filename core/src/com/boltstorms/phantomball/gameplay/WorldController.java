@@ -1,304 +1,579 @@
 package com.boltstorms.phantomball.gameplay;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.boltstorms.phantomball.gameplay.replay.ReplayRecorder;
+import com.boltstorms.phantomball.gameplay.spatial.SpatialHash;
+import com.boltstorms.phantomball.gameplay.stats.BallStats;
 import com.boltstorms.phantomball.util.Const;
+import com.boltstorms.phantomball.util.FixedTimestep;
 import com.boltstorms.phantomball.util.PlayerProfile;
 
-import java.util.ArrayList;
-
 public class WorldController {
 
     private float W, H;
 
-    private Ball blueBall;
-    private Ball redBall;
+    // Balls in play, in summon order; active count per PhantomType ordinal
+    private final Array<Ball> balls = new Array<>(true, 16, Ball.class);
+    private final int[] active = new int[PhantomType.COUNT];
+
+    // Caps, cooldowns and queued requests per type
+    private final SummonScheduler scheduler = new SummonScheduler();
+
+    // Ball levels (persist across matches) and combat rates/curves
+    private final PlayerProfile profile;
+    private final SimTuning tuning;
+
+    // All gameplay randomness comes from here (reseeded on reset), never MathUtils.random
+    private final RandomXS128 rng;
+
+    private final SpiritStore spirits;
+
+    // Spirit movement in chunks, and ball-vs-spirit contact after it
+    private final SpiritStepper stepper;
+    private final BallContacts contacts;
+
+    // Spirit-vs-spirit pushes, every spiritCollideEvery ticks (0 = off)
+    private final SpiritCollider collider;
+    private int spiritCollideEvery = Const.SPIRIT_COLLIDE_EVERY;
 
-    private boolean blueUsed = false;
-    private boolean redUsed = false;
+    // Broadphase over spirits (ids = index into spirits), rebuilt every tick and after
+    // spawns (lazily, so a wave spawned in many slices is binned once)
+    private final SpatialHash spiritGrid = new SpatialHash();
+    private boolean spiritGridDirty = false;
 
-    private final ArrayList<EvilSpirit> evilspirits = new ArrayList<>();
+    // Highest spirit level the grid cells are sized for (waves can go past the Const range)
+    private int gridLevel = Const.SPIRIT_MAX_LV;
+
+    // Broadphase over balls (ids = index into balls), for spawn clearance
+    private final SpatialHash ballGrid = new SpatialHash();
+    private final IntArray candidates = new IntArray(64);
+
+    // Spawn spots clear of balls and spirits (Poisson-disc pool over both grids)
+    private final SpawnPlacer placer;
+
+    // Balls are recycled; spirits live in SpiritStore, pre-sized at creation
+    private final EntityPool<Ball> ballPool = new EntityPool<Ball>(4) {
+        @Override
+        protected Ball create() {
+            return new Ball();
+        }
+    };
+    // Gameplay always advances in fixed ticks; frames only feed the accumulator
+    private final FixedTimestep clock = new FixedTimestep(Const.SIM_TICK_HZ, Const.SIM_MAX_STEPS_PER_FRAME);
+
+    // Seeds the per-chunk nudge RNG (tickCount keeps every tick different)
+    private final long seed;
+    private long tickCount = 0;
 
     private float driftTimer = 0f;
     private boolean paused = false;
     private int score = 0;
 
-    private float blueSpawnX = 0f;
-    private float redSpawnX  = 0f;
-    private float spawnY     = 0f;
+    // Summon point per type (0 = default spot)
+    private final float[] spawnX = new float[PhantomType.COUNT];
+    private final float[] spawnY = new float[PhantomType.COUNT];
 
-    // XP tracking (per run) — now float so we can gain XP continuously per damage dealt
-    private float blueXp = 0f;
-    private float redXp  = 0f;
+    // XP per type (per run) — float so we can gain XP continuously per damage dealt
+    private final float[] xp = new float[PhantomType.COUNT];
 
     // ===== Spirit selection for label =====
-    private EvilSpirit selectedSpirit = null;
+    private final EvilSpirit selectedView;
+    private int selectedIndex = -1;
     private float selectedTimer = 0f;
     private static final float SELECT_SHOW_TIME = 2.5f;
 
+    // Non-null while recording a replay
+    private ReplayRecorder recorder;
+
+    public WorldController() {
+        this(MathUtils.random.nextLong());
+    }
+
+    public WorldController(long seed) {
+        this(seed, PlayerProfile.local(), SimTuning.defaults());
+    }
+
+    /** A world with its own profile and tuning shares no mutable state with other worlds. */
+    public WorldController(long seed, PlayerProfile profile, SimTuning tuning) {
+        this.seed = seed;
+        this.profile = profile;
+        this.tuning = tuning;
+        this.rng = new RandomXS128(seed);
+        this.spirits = new SpiritStore(64, rng, tuning.progression);
+        this.stepper = new SpiritStepper(spirits);
+        this.contacts = new BallContacts(spirits, tuning.interactionsOrDefault(), tuning.xpPerDamage);
+        this.collider = new SpiritCollider(spirits);
+        this.selectedView = new EvilSpirit(spirits);
+        this.placer = new SpawnPlacer(spirits, spiritGrid, balls, ballGrid, rng);
+
+        ballPool.prewarm(Const.BALL_POOL_PREWARM);
+        spirits.ensureCapacity(Const.SPIRIT_PREWARM);
+        spiritGrid.ensureCapacity(Const.SPIRIT_PREWARM);
+        stepper.prewarm(Const.SPIRIT_PREWARM);
+        contacts.ensureCapacity(Const.SPIRIT_PREWARM);
+        collider.ensureCapacity(Const.SPIRIT_PREWARM);
+    }
+
+    public long getSeed() { return seed; }
+
+    // ===================== REPLAY =====================
+
+    /** Starts recording every input from now on (call before the first resize). */
+    public void startRecording() {
+        recorder = new ReplayRecorder(seed, getTickRate(), profile.getLevels());
+    }
+
+    /** Seals and returns the replay, or null if not recording. */
+    public byte[] stopRecording() {
+        if (recorder == null) return null;
+        byte[] replay = recorder.finish(tickCount, score, stateHash());
+        recorder = null;
+        return replay;
+    }
+
+    /** The replay so far, sealed as if recording stopped now, or null if not recording. Recording goes on. */
+    public byte[] snapshotRecording() {
+        if (recorder == null) return null;
+        return recorder.snapshot(tickCount, score, stateHash());
+    }
+
+    /** FNV-style hash over everything the sim evolves; identical runs give identical hashes. */
+    public long stateHash() {
+        long h = 0xCBF29CE484222325L;
+        h = mix(h, tickCount);
+        h = mix(h, score);
+        h = mix(h, balls.size);
+        for (float v : xp) h = mix(h, Float.floatToIntBits(v));
+        for (int b = 0; b < balls.size; b++) h = mixBall(h, balls.get(b));
+
+        SpiritStore s = spirits;
+        for (int i = 0, n = s.size(); i < n; i++) {
+            h = mix(h, Float.floatToIntBits(s.x[i]));
+            h = mix(h, Float.floatToIntBits(s.y[i]));
+            h = mix(h, Float.floatToIntBits(s.vx[i]));
+            h = mix(h, Float.floatToIntBits(s.vy[i]));
+            h = mix(h, Float.floatToIntBits(s.hp[i]));
+            h = mix(h, s.level[i] * 31 + s.type[i]);
+        }
+        return h;
+    }
+
+    private static long mixBall(long h, Ball ball) {
+        if (ball == null) return mix(h, -1L);
+        h = mix(h, Float.floatToIntBits(ball.getPos().x));
+        h = mix(h, Float.floatToIntBits(ball.getPos().y));
+        h = mix(h, Float.floatToIntBits(ball.getHp()));
+        return mix(h, ball.getLevel());
+    }
+
+    private static long mix(long h, long v) {
+        return (h ^ v) * 0x100000001B3L;
+    }
+
+    private float random(float min, float max) {
+        return min + rng.nextFloat() * (max - min);
+    }
+
+    // ===================== SETUP =====================
+
     public void resize(int width, int height) {
+        if (recorder != null) recorder.resize(tickCount, width, height);
         W = width;
         H = height;
+        gridLevel = Const.SPIRIT_MAX_LV;
+        configureGrid();
         reset();
     }
 
-    public void setSummonAnchors(float blueX, float redX, float y) {
-        this.blueSpawnX = blueX;
-        this.redSpawnX = redX;
-        this.spawnY = y;
+    private void configureGrid() {
+        // Largest spirit diameter per cell -> a circle query touches at most 3x3 cells
+        float maxR = 0f, spawnR = 0f;
+        for (PhantomType t : PhantomType.ALL) {
+            BallStats s = tuning.progression.stats(t, gridLevel);
+            maxR = Math.max(maxR, s.maxRadius);
+            spawnR = Math.max(spawnR, (s.minRadius + s.maxRadius) * 0.5f); // spawns at 50% HP
+        }
+        float cell = maxR * Const.SPIRIT_SIZE_SCALE * 2f;
+        spiritGrid.configure(W, H, cell);
+        contacts.configure(W, H, cell);
+        placer.configure(W, H, cell, spawnR * Const.SPIRIT_SIZE_SCALE);
+        ballGrid.configure(W, H, Const.BALL_MAX_RADIUS * 2f);
     }
 
-    public void summonBlue() {
-        if (blueUsed) return;
-        blueUsed = true;
-
-        blueBall = new Ball(PhantomType.BLUE, PlayerProfile.getBlueLevel());
+    /** Where {@code type} is summoned (e.g. above its card); 0 = default spot. */
+    public void setSummonAnchor(PhantomType type, float x, float y) {
+        if (recorder != null) recorder.anchor(tickCount, type, x, y);
+        spawnX[type.ordinal()] = x;
+        spawnY[type.ordinal()] = y;
+    }
 
-        float x = (blueSpawnX > 0f) ? blueSpawnX : W * 0.35f;
-        float y = (spawnY > 0f) ? spawnY : H * 0.12f;
+    /**
+     * Asks for a ball of {@code type}: summoned right away if the {@link SummonScheduler}
+     * allows it, else queued for a later tick (or dropped if the queue is full).
+     */
+    public void summon(PhantomType type) {
+        if (recorder != null) recorder.summon(tickCount, type);
 
-        x += MathUtils.random(-25f, 25f);
-        y += MathUtils.random(0f, 20f);
+        int t = type.ordinal();
+        if (scheduler.request(t, active[t])) spawnBall(t);
+    }
 
-        float margin = Const.BALL_START_RADIUS + 6f;
-        x = MathUtils.clamp(x, margin, W - margin);
-        y = MathUtils.clamp(y, margin, H - margin);
+    /** Max balls in play and seconds between summons for {@code type}. */
+    public void setSummonRules(PhantomType type, int maxActive, float cooldownSeconds) {
+        if (recorder != null) recorder.summonRules(tickCount, type, maxActive, cooldownSeconds);
+        scheduler.setRules(type.ordinal(), maxActive, cooldownSeconds);
 
-        float angle = MathUtils.random(35f, 145f);
-        blueBall.resetWithAngle(x, y, angle);
+        // Balls in play already exist; only the rest need to be free
+        int total = 0;
+        for (PhantomType p : PhantomType.ALL) total += scheduler.getMaxActive(p);
+        ballPool.prewarm(total - balls.size);
     }
 
-    public void summonRed() {
-        if (redUsed) return;
-        redUsed = true;
+    private void spawnBall(int t) {
+        PhantomType type = PhantomType.ALL[t];
+        Ball ball = ballPool.obtain().init(type, profile.getLevel(type), tuning.progression);
+        balls.add(ball);
+        active[t]++;
+        scheduler.onSummoned(t);
 
-        redBall = new Ball(PhantomType.RED, PlayerProfile.getRedLevel());
+        // Default spots spread across the width (35% .. 65% for two types)
+        float x = (spawnX[t] > 0f) ? spawnX[t] : W * (0.35f + 0.30f * t / Math.max(1, PhantomType.COUNT - 1));
+        float y = (spawnY[t] > 0f) ? spawnY[t] : H * 0.12f;
 
-        float x = (redSpawnX > 0f) ? redSpawnX : W * 0.65f;
-        float y = (spawnY > 0f) ? spawnY : H * 0.12f;
-
-        x += MathUtils.random(-25f, 25f);
-        y += MathUtils.random(0f, 20f);
+        x += random(-25f, 25f);
+        y += random(0f, 20f);
 
         float margin = Const.BALL_START_RADIUS + 6f;
         x = MathUtils.clamp(x, margin, W - margin);
         y = MathUtils.clamp(y, margin, H - margin);
 
-        float angle = MathUtils.random(35f, 145f);
-        redBall.resetWithAngle(x, y, angle);
+        float angle = random(35f, 145f);
+        ball.resetWithAngle(x, y, angle, rng.nextBoolean());
+
+        rebuildBallGrid();
     }
 
     private void reset() {
+        rng.setSeed(seed);
         score = 0;
         driftTimer = 0f;
+        tickCount = 0;
+        clock.reset();
+
+        for (int b = 0; b < balls.size; b++) ballPool.free(balls.get(b));
+        balls.clear();
+        for (int t = 0; t < PhantomType.COUNT; t++) {
+            xp[t] = 0f;
+            active[t] = 0;
+        }
+        scheduler.reset();
+        rebuildBallGrid();
+
+        spirits.clear();
+        placer.reset();
+        rebuildGrid();
+
+        selectedIndex = -1;
+        selectedTimer = 0f;
 
-        blueXp = 0f;
-        redXp  = 0f;
+        addSpirits(10);
+    }
 
-        if (blueBall != null) blueBall.dispose();
-        if (redBall != null) redBall.dispose();
+    /** Adds spirits cycling through the types (stress scenes use large counts). */
+    public void spawnSpirits(int count) {
+        if (recorder != null) recorder.spawnSpirits(tickCount, count);
+        addSpirits(count);
+    }
 
-        blueBall = null;
-        redBall = null;
-        blueUsed = false;
-        redUsed = false;
+    private void addSpirits(int count) {
+        ensureGrid();
+        for (int i = 0; i < count; i++) {
+            placer.place(spirits.spawn(PhantomType.ALL[spirits.size() % PhantomType.COUNT], W, H));
+        }
+        spiritGridDirty = true;
+    }
 
-        evilspirits.clear();
+    /**
+     * Adds {@code count} spirits at levels in [minLevel, maxLevel] (not limited to the Const
+     * spawn range), each type picked with probability proportional to {@code typeWeights}
+     * (by ordinal; all zero = uniform). Used by {@link com.boltstorms.phantomball.gameplay.waves.WaveSpawner}
+     * in small slices. Spirits past {@link Const#WAVE_MAX_SPIRITS} in the world are dropped.
+     */
+    public void spawnWave(int count, int minLevel, int maxLevel, float[] typeWeights) {
+        if (recorder != null) recorder.spawnWave(tickCount, count, minLevel, maxLevel, typeWeights);
+
+        count = Math.min(count, Const.WAVE_MAX_SPIRITS - spirits.size());
+        if (count <= 0) return;
+
+        minLevel = Math.max(1, minLevel);
+        maxLevel = Math.max(minLevel, maxLevel);
+        if (maxLevel > gridLevel) {
+            // Keep cells at least one spirit wide for the queries and the collider
+            gridLevel = maxLevel;
+            configureGrid();
+            rebuildGrid();
+        } else {
+            ensureGrid();
+        }
 
-        selectedSpirit = null;
-        selectedTimer = 0f;
+        float total = 0f;
+        for (int t = 0; t < PhantomType.COUNT; t++) total += Math.max(0f, weight(typeWeights, t));
 
-        for (int i = 0; i < 10; i++) {
-            PhantomType t = (i % 2 == 0) ? PhantomType.BLUE : PhantomType.RED;
-            evilspirits.add(EvilSpirit.randomProp(W, H, t));
+        for (int i = 0; i < count; i++) {
+            placer.place(spirits.spawn(pickType(typeWeights, total), W, H, minLevel, maxLevel));
         }
+        spiritGridDirty = true;
     }
 
-    // ===== Tap selection (used by GameScreen) =====
-    public boolean tapAt(float worldX, float worldY) {
-        for (int i = evilspirits.size() - 1; i >= 0; i--) {
-            EvilSpirit p = evilspirits.get(i);
-            if (p.containsPoint(worldX, worldY)) {
-                selectedSpirit = p;
-                selectedTimer = SELECT_SHOW_TIME;
-                return true;
-            }
+    private PhantomType pickType(float[] weights, float total) {
+        if (total <= 0f) return PhantomType.ALL[rng.nextInt(PhantomType.COUNT)];
+
+        float roll = rng.nextFloat() * total;
+        for (int t = 0; t < PhantomType.COUNT - 1; t++) {
+            roll -= Math.max(0f, weight(weights, t));
+            if (roll < 0f) return PhantomType.ALL[t];
         }
-        selectedSpirit = null;
-        selectedTimer = 0f;
-        return false;
+        return PhantomType.ALL[PhantomType.COUNT - 1];
     }
 
-    public EvilSpirit getSelectedSpirit() { return selectedSpirit; }
+    private static float weight(float[] weights, int t) {
+        return (weights != null && t < weights.length) ? weights[t] : 0f;
+    }
 
-    // ===== XP getters for HUD =====
-    public float getBlueXp() { return blueXp; }
-    public float getRedXp()  { return redXp;  }
+    public int getSpiritCount() { return spirits.size(); }
 
-    public int getBlueXpToNext() {
-        if (blueBall != null) return blueBall.getXpToNext();
-        // fallback to progression curve
-        return 10 + (PlayerProfile.getBlueLevel() - 1) * 5;
+    private void ensureGrid() {
+        if (spiritGridDirty) rebuildGrid();
     }
 
-    public int getRedXpToNext() {
-        if (redBall != null) return redBall.getXpToNext();
-        return 10 + (PlayerProfile.getRedLevel() - 1) * 5;
+    private void rebuildGrid() {
+        spiritGridDirty = false;
+        spiritGrid.clear();
+        for (int i = 0, n = spirits.size(); i < n; i++) {
+            spiritGrid.insert(i, spirits.getX(i), spirits.getY(i), spirits.getR(i));
+        }
+        spiritGrid.build();
+        placer.onGridRebuilt();
     }
 
-    // ===== XP + Leveling helpers (BALLS ONLY) =====
-    private void addBlueXp(float amount) {
-        if (blueBall == null) return;
+    // Respawn at spots clear of balls and other spirits (the placer tracks the batch itself);
+    // the spirits leave their bins, so the grid is rebuilt before its next use
+    private void respawnSpirits(IntArray dead) {
+        if (dead.size == 0) return;
+
+        ensureGrid();
+        for (int k = 0; k < dead.size; k++) {
+            int i = dead.get(k);
+            spirits.respawn(i, W, H);
+            placer.place(i);
+        }
+        spiritGridDirty = true;
+    }
 
-        blueXp += amount;
+    // ===== Tap selection (used by GameScreen) =====
+    public boolean tapAt(float worldX, float worldY) {
+        if (recorder != null) recorder.tap(tickCount, worldX, worldY);
+
+        // Topmost = highest index (drawn last), same as the old reverse scan
+        ensureGrid();
+        int hit = -1;
+        int n = spiritGrid.query(worldX, worldY, 0f, candidates);
+        for (int k = 0; k < n; k++) {
+            int i = candidates.get(k);
+            if (i > hit && spirits.containsPoint(i, worldX, worldY)) hit = i;
+        }
 
-        while (blueBall != null && blueXp >= blueBall.getXpToNext()) {
-            blueXp -= blueBall.getXpToNext();
-            int newLevel = PlayerProfile.levelUpBlue();
-            blueBall.setLevel(newLevel);
+        if (hit >= 0) {
+            selectedIndex = hit;
+            selectedTimer = SELECT_SHOW_TIME;
+            return true;
         }
+        selectedIndex = -1;
+        selectedTimer = 0f;
+        return false;
     }
 
-    private void addRedXp(float amount) {
-        if (redBall == null) return;
+    public EvilSpirit getSelectedSpirit() {
+        return selectedIndex >= 0 ? selectedView.bind(selectedIndex, clock.getAlpha()) : null;
+    }
 
-        redXp += amount;
+    // ===== XP for HUD =====
+    public float getXp(PhantomType type) { return xp[type.ordinal()]; }
 
-        while (redBall != null && redXp >= redBall.getXpToNext()) {
-            redXp -= redBall.getXpToNext();
-            int newLevel = PlayerProfile.levelUpRed();
-            redBall.setLevel(newLevel);
+    public int getXpToNext(PhantomType type) {
+        return tuning.progression.stats(type, profile.getLevel(type)).xpToNext;
+    }
+
+    // ===== XP + Leveling (BALLS ONLY) =====
+    // XP is per type: every ball of the type feeds it and levels up together
+    private void addXp(PhantomType type, float amount) {
+        int t = type.ordinal();
+        if (active[t] == 0) return;
+
+        xp[t] += amount;
+
+        int toNext;
+        while (xp[t] >= (toNext = getXpToNext(type))) {
+            xp[t] -= toNext;
+            int newLevel = profile.levelUp(type);
+            for (int b = 0; b < balls.size; b++) {
+                Ball ball = balls.get(b);
+                if (ball.getType() == type) ball.setLevel(newLevel);
+            }
         }
     }
 
-    public void update(float dt) {
+    /** Runs as many fixed ticks as the frame delta covers. */
+    public void update(float frameDelta) {
+        if (paused) return;
+
+        int steps = clock.advance(frameDelta);
+        for (int s = 0; s < steps; s++) tick(clock.getStep());
+    }
+
+    /** Runs exactly one fixed tick, ignoring frame time (headless runs). */
+    public void step() {
         if (paused) return;
+        tick(clock.getStep());
+    }
+
+    private void tick(float dt) {
 
         // selection timer
         if (selectedTimer > 0f) {
             selectedTimer -= dt;
             if (selectedTimer <= 0f) {
                 selectedTimer = 0f;
-                selectedSpirit = null;
+                selectedIndex = -1;
             }
         }
 
-        if (blueBall != null) blueBall.update(dt, W, H);
-        if (redBall != null)  redBall.update(dt, W, H);
-
-        driftTimer += dt;
-        boolean nudge = driftTimer >= Const.DRIFT_NUDGE_TIME;
-        if (nudge) driftTimer = 0f;
-
-        for (EvilSpirit p : evilspirits) {
-            if (nudge) p.nudgeVelocity();
-            p.update(dt, W, H);
-
-            // ===================== BLUE BALL =====================
-            if (blueBall != null && p.collides(blueBall)) {
+        // Queued summons whose cap/cooldown now allows them
+        scheduler.tick(dt);
+        for (int t = 0; t < PhantomType.COUNT; t++) {
+            while (scheduler.pollQueued(t, active[t])) spawnBall(t);
+        }
 
-                if (p.getType() == PhantomType.BLUE) {
-                    // Player eats spirit: spirit loses HP continuously, player heals continuously
-                    float drain = Const.PROP_DRAIN_RATE * dt;
+        for (int b = 0; b < balls.size; b++) balls.get(b).update(dt, W, H);
+        rebuildBallGrid();
 
-                    // IMPORTANT: EvilSpirit.takeDamage should return actual HP removed
-                    float dealt = p.takeDamage(drain);
+        // Spirits push each other apart (on a grid of where they are now)
+        if (spiritCollideEvery > 0 && tickCount % spiritCollideEvery == 0) {
+            ensureGrid();
+            collider.resolve(spiritGrid, W, H);
+        }
 
-                    // XP gained per damage dealt
-                    addBlueXp(dealt * Const.XP_PER_DAMAGE);
+        driftTimer += dt;
+        boolean nudge = driftTimer >= tuning.driftNudgeTime;
+        if (nudge) driftTimer = 0f;
 
-                    blueBall.grow(Const.BALL_GROW_RATE * dt);
+        // Spirits move in chunks (maybe on worker threads); contact runs below on this thread
+        stepper.step(dt, W, H, nudge, seed ^ (tickCount * 0x9E3779B97F4A7C15L));
+        tickCount++;
 
-                    if (p.isDead()) {
-                        score++;
-                        p.respawn(W, H);
-                    }
+        // Only the collider, taps and spawns read the spirit grid; they rebuild it on demand
+        spiritGridDirty = true;
 
-                } else {
-                    // Spirit eats player: player loses HP, spirit heals/grows
-                    blueBall.takeDamage(Const.BALL_DAMAGE_RATE * dt);
-                    p.heal(Const.SPIRIT_GROWTH_RATE * dt);
+        contacts.step(dt, balls.items, balls.size);
+        applyContacts();
+    }
 
-                    if (blueBall.isDead()) {
-                        blueBall.dispose();
-                        blueBall = null;
-                        blueUsed = false;
-                    }
-                }
+    private void applyContacts() {
+        score += contacts.kills;
+        respawnSpirits(contacts.dead);
+
+        // Slot = index into balls; dead balls are compacted out in order
+        Ball[] items = balls.items;
+        int n = balls.size, kept = 0;
+        for (int b = 0; b < n; b++) {
+            Ball ball = items[b];
+
+            if (contacts.ballXp[b] > 0f) addXp(ball.getType(), contacts.ballXp[b]);
+            if (contacts.ballGrow[b] > 0f) ball.grow(contacts.ballGrow[b]);
+            if (contacts.ballDamage[b] > 0f) ball.takeDamage(contacts.ballDamage[b]);
+
+            if (ball.isDead()) {
+                active[ball.getType().ordinal()]--;
+                ballPool.free(ball);
+            } else {
+                items[kept++] = ball;
             }
+        }
 
-            // ===================== RED BALL =====================
-            if (redBall != null && p.collides(redBall)) {
-
-                if (p.getType() == PhantomType.RED) {
-                    float drain = Const.PROP_DRAIN_RATE * dt;
-                    float dealt = p.takeDamage(drain);
-
-                    addRedXp(dealt * Const.XP_PER_DAMAGE);
-
-                    redBall.grow(Const.BALL_GROW_RATE * dt);
-
-                    if (p.isDead()) {
-                        score++;
-                        p.respawn(W, H);
-                    }
-
-                } else {
-                    redBall.takeDamage(Const.BALL_DAMAGE_RATE * dt);
-                    p.heal(Const.SPIRIT_GROWTH_RATE * dt);
-
-                    if (redBall.isDead()) {
-                        redBall.dispose();
-                        redBall = null;
-                        redUsed = false;
-                    }
-                }
-            }
+        if (kept < n) {
+            balls.truncate(kept);
+            rebuildBallGrid();
         }
     }
 
-    public void draw(ShapeRenderer sr, SpriteBatch batch) {
-        batch.begin();
-        for (EvilSpirit p : evilspirits) p.draw(batch);
-        if (blueBall != null) blueBall.draw(batch);
-        if (redBall != null) redBall.draw(batch);
-        batch.end();
-
-        if (!Const.DEBUG_DRAW) return;
-
-        sr.begin(ShapeRenderer.ShapeType.Line);
-        for (EvilSpirit p : evilspirits) p.drawDebug(sr);
-        if (blueBall != null) blueBall.drawDebug(sr);
-        if (redBall != null) redBall.drawDebug(sr);
-        sr.end();
+    private void rebuildBallGrid() {
+        ballGrid.clear();
+        for (int b = 0; b < balls.size; b++) {
+            Ball ball = balls.get(b);
+            ballGrid.insert(b, ball.getPos().x, ball.getPos().y, ball.getR());
+        }
+        ballGrid.build();
     }
 
-    public void drawDebugBounds(ShapeRenderer sr) {
-        if (!Const.DEBUG_DRAW) return;
+    // ===== Read access for WorldRenderer / headless tools =====
+    public SpiritStore getSpirits() { return spirits; }
+    /** Balls in play (do not modify). */
+    public Array<Ball> getBalls() { return balls; }
+    public int getActiveCount(PhantomType type) { return active[type.ordinal()]; }
+    public SummonScheduler getSummonScheduler() { return scheduler; }
+    public float getWidth() { return W; }
+    public float getHeight() { return H; }
+    public long getTickCount() { return tickCount; }
+    public EntityPool<Ball> getBallPool() { return ballPool; }
 
-        sr.setColor(0f, 1f, 0f, 1f);
-        sr.rect(0, 0, W, H);
-    }
+    /** Render interpolation factor between the last two ticks. */
+    public float getAlpha() { return clock.getAlpha(); }
 
     public int getScore() { return score; }
-    public boolean isBlueUsed() { return blueUsed; }
-    public boolean isRedUsed() { return redUsed; }
+    /** True if a summon of {@code type} would happen right away. */
+    public boolean canSummon(PhantomType type) {
+        int t = type.ordinal();
+        return scheduler.getQueued(type) == 0 && scheduler.canSummon(t, active[t]);
+    }
 
-    public int getBlueLevel() { return PlayerProfile.getBlueLevel(); }
-    public int getRedLevel()  { return PlayerProfile.getRedLevel(); }
+    public int getLevel(PhantomType type) { return profile.getLevel(type); }
+    public PlayerProfile getProfile() { return profile; }
 
     public void setPlayBounds(float width, float height) {
+        if (recorder != null) recorder.playBounds(tickCount, width, height);
         W = width;
         H = height;
+        configureGrid();
+        rebuildGrid();
+    }
+
+    public void setPaused(boolean paused) {
+        if (recorder != null && paused != this.paused) recorder.pause(tickCount, paused);
+        this.paused = paused;
     }
 
-    public void setPaused(boolean paused) { this.paused = paused; }
     public boolean isPaused() { return paused; }
 
-    public void dispose() {
-        if (blueBall != null) blueBall.dispose();
-        if (redBall != null) redBall.dispose();
-        EvilSpirit.disposeAll();
+    /** Simulation rate in Hz (lower on weak devices; rendering still interpolates). */
+    public void setTickRate(float hz) {
+        if (recorder != null) recorder.tickRate(tickCount, hz);
+        clock.setTickRate(hz);
     }
+
+    public float getTickRate() { return clock.getTickRate(); }
+
+    /** Resolve spirit-vs-spirit overlaps every {@code ticks} ticks (1 = every tick, 0 = off). */
+    public void setSpiritCollisionInterval(int ticks) {
+        if (recorder != null) recorder.spiritCollision(tickCount, ticks);
+        spiritCollideEvery = Math.max(0, ticks);
+    }
+
+    public int getSpiritCollisionInterval() { return spiritCollideEvery; }
+
+    /** Spirit count at which the spirit update moves onto worker threads. */
+    public void setParallelThreshold(int spirits) { stepper.setParallelThreshold(spirits); }
+    public int getParallelThreshold() { return stepper.getParallelThreshold(); }
 }
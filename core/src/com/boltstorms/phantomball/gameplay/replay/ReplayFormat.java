@@ -0,0 +1,110 @@
+package com.boltstorms.phantomball.gameplay.replay;
+
+import com.badlogic.gdx.utils.ByteArray;
+
+/**
+ * Binary layout shared by {@link ReplayRecorder} and {@link ReplayPlayer}.
+ *
+ * Header: magic, version, seed, tick rate, type count and the starting level of every
+ * {@link com.boltstorms.phantomball.gameplay.PhantomType}. Then events, each a
+ * kind byte, the tick delta to the previous event (zigzag varint; negative after a resize
+ * resets the world) and a kind-specific payload. Floats are stored exactly (4 bytes) so a
+ * replay feeds the sim bit-identical inputs. The END event carries the final score and
+ * state hash.
+ */
+final class ReplayFormat {
+
+    private ReplayFormat() {}
+
+    static final int MAGIC = 0x50425250; // "PBRP"
+    static final int VERSION = 2;
+
+    // ===================== EVENTS =====================
+
+    static final int END = 0;
+    static final int RESIZE = 1;      // varint w, varint h
+    static final int PLAY_BOUNDS = 2; // float w, float h
+    static final int ANCHOR = 3;      // varint PhantomType ordinal, float x, float y
+    static final int SUMMON = 4;      // varint PhantomType ordinal
+    static final int TAP = 5;         // float x, float y
+    static final int PAUSE = 6;
+    static final int RESUME = 7;
+    static final int TICK_RATE = 8;   // float hz
+    static final int SPAWN_SPIRITS = 9; // varint count
+    static final int SPIRIT_COLLISION = 10; // varint interval in ticks
+    static final int SUMMON_RULES = 11; // varint PhantomType ordinal, varint max active, float cooldown
+    static final int SPAWN_WAVE = 12; // varint count, varint min level, varint max level, float weight per type
+
+    // ===================== WRITE =====================
+
+    static void writeVarLong(ByteArray out, long v) {
+        while ((v & ~0x7FL) != 0L) {
+            out.add((byte) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.add((byte) v);
+    }
+
+    static void writeSignedVarLong(ByteArray out, long v) {
+        writeVarLong(out, (v << 1) ^ (v >> 63));
+    }
+
+    static void writeInt(ByteArray out, int v) {
+        out.add((byte) v, (byte) (v >>> 8), (byte) (v >>> 16), (byte) (v >>> 24));
+    }
+
+    static void writeLong(ByteArray out, long v) {
+        writeInt(out, (int) v);
+        writeInt(out, (int) (v >>> 32));
+    }
+
+    static void writeFloat(ByteArray out, float v) {
+        writeInt(out, Float.floatToRawIntBits(v));
+    }
+
+    // ===================== READ =====================
+
+    static final class Reader {
+        private final byte[] data;
+        private int pos;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        int position() { return pos; }
+        void seek(int position) { pos = position; }
+
+        int readByte() {
+            if (pos >= data.length) throw new IllegalArgumentException("Replay is truncated");
+            return data[pos++] & 0xFF;
+        }
+
+        long readVarLong() {
+            long v = 0L;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                v |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return v;
+            }
+            throw new IllegalArgumentException("Bad varint in replay");
+        }
+
+        long readSignedVarLong() {
+            long v = readVarLong();
+            return (v >>> 1) ^ -(v & 1L);
+        }
+
+        int readInt() {
+            return readByte() | (readByte() << 8) | (readByte() << 16) | (readByte() << 24);
+        }
+
+        long readLong() {
+            return (readInt() & 0xFFFFFFFFL) | ((long) readInt() << 32);
+        }
+
+        float readFloat() {
+            return Float.intBitsToFloat(readInt());
+        }
+    }
+}
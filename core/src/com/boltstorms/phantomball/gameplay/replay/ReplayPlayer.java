@@ -0,0 +1,128 @@
+package com.boltstorms.phantomball.gameplay.replay;
+
+import com.boltstorms.phantomball.gameplay.PhantomType;
+import com.boltstorms.phantomball.gameplay.SimTuning;
+import com.boltstorms.phantomball.gameplay.WorldController;
+import com.boltstorms.phantomball.util.PlayerProfile;
+
+/**
+ * Re-simulates a recorded replay as fast as possible and checks it ends in the recorded
+ * state. Same seed + same inputs at the same ticks = same world, so a mismatch means the
+ * sim changed (or is nondeterministic).
+ *
+ * The world gets its own profile at the recorded starting levels, so the player's
+ * profile is untouched and several replays can run at once.
+ */
+public final class ReplayPlayer {
+
+    public static final class Result {
+        public long ticks;
+        public int score;
+        public long hash;
+        public int expectedScore;
+        public long expectedHash;
+
+        public boolean matches() {
+            return score == expectedScore && hash == expectedHash;
+        }
+    }
+
+    private final byte[] data;
+
+    private final long seed;
+    private final float tickHz;
+    private final int[] levels;
+    private final int bodyStart;
+
+    public ReplayPlayer(byte[] data) {
+        this.data = data;
+
+        ReplayFormat.Reader in = new ReplayFormat.Reader(data);
+        if (in.readInt() != ReplayFormat.MAGIC) throw new IllegalArgumentException("Not a replay");
+
+        long version = in.readVarLong();
+        if (version != ReplayFormat.VERSION) throw new IllegalArgumentException("Unsupported replay version " + version);
+
+        seed = in.readLong();
+        tickHz = in.readFloat();
+        levels = new int[(int) in.readVarLong()];
+        if (levels.length != PhantomType.COUNT) throw new IllegalArgumentException("Replay has " + levels.length + " phantom types");
+        for (int t = 0; t < levels.length; t++) levels[t] = (int) in.readVarLong();
+        bodyStart = in.position();
+    }
+
+    public long getSeed() { return seed; }
+
+    public Result run() {
+        WorldController world = new WorldController(seed, new PlayerProfile(levels), SimTuning.defaults());
+        world.setTickRate(tickHz);
+
+        ReplayFormat.Reader in = new ReplayFormat.Reader(data);
+        in.seek(bodyStart);
+
+        Result result = new Result();
+        long eventTick = 0L;
+
+        while (true) {
+            int kind = in.readByte();
+            eventTick += in.readSignedVarLong();
+
+            while (world.getTickCount() < eventTick) {
+                if (world.isPaused()) throw new IllegalStateException("Replay stalls: paused at tick " + world.getTickCount());
+                world.step();
+                result.ticks++;
+            }
+
+            switch (kind) {
+                case ReplayFormat.RESIZE:
+                    world.resize((int) in.readVarLong(), (int) in.readVarLong());
+                    break;
+                case ReplayFormat.PLAY_BOUNDS:
+                    world.setPlayBounds(in.readFloat(), in.readFloat());
+                    break;
+                case ReplayFormat.ANCHOR:
+                    world.setSummonAnchor(PhantomType.ALL[(int) in.readVarLong()], in.readFloat(), in.readFloat());
+                    break;
+                case ReplayFormat.SUMMON:
+                    world.summon(PhantomType.ALL[(int) in.readVarLong()]);
+                    break;
+                case ReplayFormat.SUMMON_RULES:
+                    world.setSummonRules(PhantomType.ALL[(int) in.readVarLong()], (int) in.readVarLong(), in.readFloat());
+                    break;
+                case ReplayFormat.TAP:
+                    world.tapAt(in.readFloat(), in.readFloat());
+                    break;
+                case ReplayFormat.PAUSE:
+                case ReplayFormat.RESUME:
+                    world.setPaused(kind == ReplayFormat.PAUSE);
+                    break;
+                case ReplayFormat.SPAWN_SPIRITS:
+                    world.spawnSpirits((int) in.readVarLong());
+                    break;
+                case ReplayFormat.SPAWN_WAVE: {
+                    int count = (int) in.readVarLong();
+                    int minLevel = (int) in.readVarLong();
+                    int maxLevel = (int) in.readVarLong();
+                    float[] weights = new float[PhantomType.COUNT];
+                    for (int t = 0; t < weights.length; t++) weights[t] = in.readFloat();
+                    world.spawnWave(count, minLevel, maxLevel, weights);
+                    break;
+                }
+                case ReplayFormat.TICK_RATE:
+                    world.setTickRate(in.readFloat());
+                    break;
+                case ReplayFormat.SPIRIT_COLLISION:
+                    world.setSpiritCollisionInterval((int) in.readVarLong());
+                    break;
+                case ReplayFormat.END:
+                    result.expectedScore = (int) in.readVarLong();
+                    result.expectedHash = in.readLong();
+                    result.score = world.getScore();
+                    result.hash = world.stateHash();
+                    return result;
+                default:
+                    throw new IllegalArgumentException("Unknown replay event " + kind);
+            }
+        }
+    }
+}
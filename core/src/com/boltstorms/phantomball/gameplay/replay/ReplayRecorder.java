@@ -0,0 +1,126 @@
+package com.boltstorms.phantomball.gameplay.replay;
+
+import com.badlogic.gdx.utils.ByteArray;
+import com.boltstorms.phantomball.gameplay.PhantomType;
+
+/**
+ * Appends a world's inputs to an in-memory replay as they happen.
+ *
+ * WorldController calls these with its current tick count, so an input lands before the
+ * tick it affected. {@link #finish} seals the replay with the final score and state hash.
+ */
+public final class ReplayRecorder {
+
+    private final ByteArray out = new ByteArray(4096);
+    private long lastTick = 0L;
+    private boolean finished = false;
+
+    /** {@code levels}: starting ball level per PhantomType ordinal. */
+    public ReplayRecorder(long seed, float tickHz, int[] levels) {
+        ReplayFormat.writeInt(out, ReplayFormat.MAGIC);
+        ReplayFormat.writeVarLong(out, ReplayFormat.VERSION);
+        ReplayFormat.writeLong(out, seed);
+        ReplayFormat.writeFloat(out, tickHz);
+        ReplayFormat.writeVarLong(out, levels.length);
+        for (int level : levels) ReplayFormat.writeVarLong(out, level);
+    }
+
+    public void resize(long tick, int width, int height) {
+        event(ReplayFormat.RESIZE, tick);
+        ReplayFormat.writeVarLong(out, width);
+        ReplayFormat.writeVarLong(out, height);
+    }
+
+    public void playBounds(long tick, float width, float height) {
+        event(ReplayFormat.PLAY_BOUNDS, tick);
+        ReplayFormat.writeFloat(out, width);
+        ReplayFormat.writeFloat(out, height);
+    }
+
+    public void anchor(long tick, PhantomType type, float x, float y) {
+        event(ReplayFormat.ANCHOR, tick);
+        ReplayFormat.writeVarLong(out, type.ordinal());
+        ReplayFormat.writeFloat(out, x);
+        ReplayFormat.writeFloat(out, y);
+    }
+
+    public void summon(long tick, PhantomType type) {
+        event(ReplayFormat.SUMMON, tick);
+        ReplayFormat.writeVarLong(out, type.ordinal());
+    }
+
+    public void summonRules(long tick, PhantomType type, int maxActive, float cooldown) {
+        event(ReplayFormat.SUMMON_RULES, tick);
+        ReplayFormat.writeVarLong(out, type.ordinal());
+        ReplayFormat.writeVarLong(out, maxActive);
+        ReplayFormat.writeFloat(out, cooldown);
+    }
+
+    public void tap(long tick, float x, float y) {
+        event(ReplayFormat.TAP, tick);
+        ReplayFormat.writeFloat(out, x);
+        ReplayFormat.writeFloat(out, y);
+    }
+
+    public void pause(long tick, boolean paused) {
+        event(paused ? ReplayFormat.PAUSE : ReplayFormat.RESUME, tick);
+    }
+
+    public void spawnSpirits(long tick, int count) {
+        event(ReplayFormat.SPAWN_SPIRITS, tick);
+        ReplayFormat.writeVarLong(out, count);
+    }
+
+    public void spawnWave(long tick, int count, int minLevel, int maxLevel, float[] typeWeights) {
+        event(ReplayFormat.SPAWN_WAVE, tick);
+        ReplayFormat.writeVarLong(out, count);
+        ReplayFormat.writeVarLong(out, minLevel);
+        ReplayFormat.writeVarLong(out, maxLevel);
+        for (int t = 0; t < PhantomType.COUNT; t++) {
+            ReplayFormat.writeFloat(out, (typeWeights != null && t < typeWeights.length) ? typeWeights[t] : 0f);
+        }
+    }
+
+    public void tickRate(long tick, float hz) {
+        event(ReplayFormat.TICK_RATE, tick);
+        ReplayFormat.writeFloat(out, hz);
+    }
+
+    public void spiritCollision(long tick, int everyTicks) {
+        event(ReplayFormat.SPIRIT_COLLISION, tick);
+        ReplayFormat.writeVarLong(out, everyTicks);
+    }
+
+    /** Ends the replay; no more events are accepted. */
+    public byte[] finish(long tick, int score, long stateHash) {
+        if (!finished) {
+            event(ReplayFormat.END, tick);
+            ReplayFormat.writeVarLong(out, score);
+            ReplayFormat.writeLong(out, stateHash);
+            finished = true;
+        }
+        return out.toArray();
+    }
+
+    /** A sealed copy of the replay so far, as {@link #finish} would return it; recording goes on. */
+    public byte[] snapshot(long tick, int score, long stateHash) {
+        if (finished) return out.toArray();
+
+        ByteArray copy = new ByteArray(out.size + 24);
+        copy.addAll(out);
+        copy.add((byte) ReplayFormat.END);
+        ReplayFormat.writeSignedVarLong(copy, tick - lastTick);
+        ReplayFormat.writeVarLong(copy, score);
+        ReplayFormat.writeLong(copy, stateHash);
+        return copy.toArray();
+    }
+
+    public int size() { return out.size; }
+
+    private void event(int kind, long tick) {
+        if (finished) throw new IllegalStateException("Replay already finished");
+        out.add((byte) kind);
+        ReplayFormat.writeSignedVarLong(out, tick - lastTick);
+        lastTick = tick;
+    }
+}
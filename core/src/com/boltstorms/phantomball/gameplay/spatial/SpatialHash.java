@@ -0,0 +1,144 @@
+package com.boltstorms.phantomball.gameplay.spatial;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Uniform grid over the play area, rebuilt every tick with a counting sort.
+ *
+ * Items are inserted by center (id + position + radius). Queries return candidate ids
+ * whose cells overlap the query circle grown by the largest inserted radius, so callers
+ * still do the exact circle test. Queries see the state of the last build().
+ * After warm-up neither build() nor query() allocates.
+ */
+public final class SpatialHash {
+
+    private float invCell = 1f;
+    private float cellSize = 1f;
+    private int cols = 1;
+    private int rows = 1;
+
+    // cell c owns cellItems[cellStart[c] .. cellStart[c + 1])
+    private int[] cellStart = new int[2];
+    private int[] cellCursor = new int[1];
+    private int[] cellItems = new int[16];
+
+    // pending inserts for the next build()
+    private int count = 0;
+    private int[] ids = new int[16];
+    private int[] itemCell = new int[16];
+    private float maxItemRadius = 0f;
+
+    public void configure(float width, float height, float cellSize) {
+        this.cellSize = Math.max(1f, cellSize);
+        this.invCell = 1f / this.cellSize;
+
+        cols = Math.max(1, (int) Math.ceil(width * invCell));
+        rows = Math.max(1, (int) Math.ceil(height * invCell));
+
+        int cells = cols * rows;
+        if (cellStart.length < cells + 1) {
+            cellStart = new int[cells + 1];
+            cellCursor = new int[cells];
+        }
+        clear();
+        build();
+    }
+
+    public void clear() {
+        count = 0;
+        maxItemRadius = 0f;
+    }
+
+    /** Pre-sizes item storage so inserting up to {@code capacity} items never allocates. */
+    public void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) return;
+        ids = copyOf(ids, capacity);
+        itemCell = copyOf(itemCell, capacity);
+        cellItems = new int[capacity];
+    }
+
+    public void insert(int id, float x, float y, float radius) {
+        if (count == ids.length) ensureCapacity(count * 2);
+
+        ids[count] = id;
+        itemCell[count] = cellOf(x, y);
+        count++;
+
+        if (radius > maxItemRadius) maxItemRadius = radius;
+    }
+
+    /** Sorts inserted items into their cells. Call once after all insert() calls. */
+    public void build() {
+        int cells = cols * rows;
+
+        for (int c = 0; c <= cells; c++) cellStart[c] = 0;
+        for (int i = 0; i < count; i++) cellStart[itemCell[i] + 1]++;
+        for (int c = 0; c < cells; c++) cellStart[c + 1] += cellStart[c];
+
+        System.arraycopy(cellStart, 0, cellCursor, 0, cells);
+        for (int i = 0; i < count; i++) {
+            cellItems[cellCursor[itemCell[i]]++] = ids[i];
+        }
+    }
+
+    /**
+     * Collects ids of items that may overlap the circle (x, y, radius) into {@code out}
+     * (cleared first). Returns the number of candidates.
+     */
+    public int query(float x, float y, float radius, IntArray out) {
+        out.clear();
+        if (count == 0) return 0;
+
+        float reach = radius + maxItemRadius;
+
+        int minCx = clampCol((int) ((x - reach) * invCell));
+        int maxCx = clampCol((int) ((x + reach) * invCell));
+        int minCy = clampRow((int) ((y - reach) * invCell));
+        int maxCy = clampRow((int) ((y + reach) * invCell));
+
+        for (int cy = minCy; cy <= maxCy; cy++) {
+            int row = cy * cols;
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                int c = row + cx;
+                for (int k = cellStart[c], end = cellStart[c + 1]; k < end; k++) {
+                    out.add(cellItems[k]);
+                }
+            }
+        }
+        return out.size;
+    }
+
+    // ===================== CELL ACCESS =====================
+    // For passes that walk the grid cell by cell (pairwise resolve) instead of querying
+
+    public int getCols() { return cols; }
+    public int getRows() { return rows; }
+
+    /** Cell c owns item slots [cellStart(c), cellStart(c + 1)); c may be cols * rows. */
+    public int cellStart(int c) { return cellStart[c]; }
+
+    /** Id in item slot k; slots are ordered by cell (row-major) after build(). */
+    public int itemAt(int k) { return cellItems[k]; }
+
+    public int size() { return count; }
+    public float getCellSize() { return cellSize; }
+    public float getMaxItemRadius() { return maxItemRadius; }
+
+    private int cellOf(float x, float y) {
+        return clampRow((int) (y * invCell)) * cols + clampCol((int) (x * invCell));
+    }
+
+    private int clampCol(int cx) {
+        return cx < 0 ? 0 : (cx >= cols ? cols - 1 : cx);
+    }
+
+    private int clampRow(int cy) {
+        return cy < 0 ? 0 : (cy >= rows ? rows - 1 : cy);
+    }
+
+    private static int[] copyOf(int[] src, int cap) {
+        int[] dst = new int[cap];
+        System.arraycopy(src, 0, dst, 0, src.length);
+        return dst;
+    }
+}
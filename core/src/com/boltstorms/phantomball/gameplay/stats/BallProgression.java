@@ -1,54 +1,238 @@
 package com.boltstorms.phantomball.gameplay.stats;
 
-import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
 import com.boltstorms.phantomball.gameplay.PhantomType;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Level curves per {@link PhantomType}, served as shared immutable {@link BallStats}.
+ *
+ * Every stat is linear in the level (base + perLevel * (level - 1), optionally clamped).
+ * Curves come from {@link #DATA_FILE} when it exists, else from the built-in defaults below.
+ * Stats are built once per type/level into a table that grows on demand (thread-safe, reads
+ * are lock-free); levels past {@link #TABLE_LIMIT} are computed per call.
+ *
+ * Built stats always have HP above zero, at least 1 XP to the next level and
+ * minRadius <= maxRadius (the collider divides by HP, leveling loops on XP); a data file
+ * whose curves break that at any level is rejected.
+ */
 public final class BallProgression {
 
-    private BallProgression() {}
+    public static final String DATA_FILE = "data/progression.json";
+
+    private static final int INITIAL_LEVELS = 32;
+    private static final int TABLE_LIMIT = 4096;
+
+    // Floor for HP from curves that were not validated (built in code)
+    private static final float MIN_HP = 1f;
+
+    /** One stat: base + perLevel * (level - 1), clamped to [min, max]. */
+    public static final class Curve {
+        public final float base, perLevel, min, max;
+
+        public Curve(float base, float perLevel) {
+            this(base, perLevel, -Float.MAX_VALUE, Float.MAX_VALUE);
+        }
+
+        public Curve(float base, float perLevel, float min, float max) {
+            this.base = base;
+            this.perLevel = perLevel;
+            this.min = min;
+            this.max = max;
+        }
+
+        public float at(int level) {
+            float v = base + (level - 1) * perLevel;
+            return v < min ? min : (v > max ? max : v);
+        }
+    }
+
+    /** The curves for one phantom type. */
+    public static final class Curves {
+        public final Curve hp, attack, resistance, speed, minRadius, maxRadius, grow, shrink, xpToNext;
+
+        public Curves(Curve hp, Curve attack, Curve resistance, Curve speed, Curve minRadius,
+                      Curve maxRadius, Curve grow, Curve shrink, Curve xpToNext) {
+            this.hp = hp;
+            this.attack = attack;
+            this.resistance = resistance;
+            this.speed = speed;
+            this.minRadius = minRadius;
+            this.maxRadius = maxRadius;
+            this.grow = grow;
+            this.shrink = shrink;
+            this.xpToNext = xpToNext;
+        }
+
+        BallStats build(int lv) {
+            float minR = minRadius.at(lv);
+            return new BallStats(
+                    lv,
+                    speed.at(lv),
+                    Math.max(MIN_HP, hp.at(lv)),
+                    attack.at(lv),
+                    resistance.at(lv),
+                    minR,
+                    Math.max(minR, maxRadius.at(lv)),
+                    grow.at(lv),
+                    shrink.at(lv),
+                    Math.max(1, Math.round(xpToNext.at(lv)))
+            );
+        }
 
+        /** Throws if some level would need the clamps in {@link #build}. */
+        void validate(String name) {
+            if (!(lowest(hp) > 0f)) throw new IllegalArgumentException(name + ".hp must stay above 0");
+            if (!(lowest(xpToNext) >= 1f)) throw new IllegalArgumentException(name + ".xpToNext must stay at least 1");
+            for (int lv : new int[]{1, TABLE_LIMIT}) {
+                if (!(minRadius.at(lv) <= maxRadius.at(lv))) {
+                    throw new IllegalArgumentException(name + ".minRadius is above maxRadius at level " + lv);
+                }
+            }
+        }
+
+        // Smallest value over all levels: a falling line ends up at its min clamp
+        private static float lowest(Curve c) {
+            return c.perLevel >= 0f ? c.at(1) : c.min;
+        }
+    }
+
+    private final Curves[] curves;
+
+    // tables[type][level] (index 0 unused); replaced, never mutated, when grown
+    private final AtomicReferenceArray<BallStats[]> tables;
+
+    public BallProgression(Curves[] curves) {
+        this.curves = curves.clone();
+        this.tables = new AtomicReferenceArray<>(curves.length);
+        for (int t = 0; t < curves.length; t++) tables.set(t, buildTable(t, INITIAL_LEVELS));
+    }
+
+    /** Stats from the shared default progression (data file or built-in curves). */
     public static BallStats statsFor(PhantomType type, int level) {
+        return defaults().stats(type, level);
+    }
+
+    public static BallProgression defaults() {
+        return Defaults.INSTANCE;
+    }
+
+    // Loaded on first use, without a lock on every later call
+    private static final class Defaults {
+        static final BallProgression INSTANCE = new BallProgression(loadCurves());
+    }
+
+    public BallStats stats(PhantomType type, int level) {
         int lv = Math.max(1, level);
+        int t = type.ordinal();
 
-        // ===== HP (LOW START, GOOD READABILITY) =====
-        float baseHp = 10f;        // Level 1
-        float hpPerLevel = 10f;    // Growth per level
-        float hp = baseHp + (lv - 1) * hpPerLevel;
+        BallStats[] table = tables.get(t);
+        if (lv < table.length) return table[lv];
+        if (lv >= TABLE_LIMIT) return curves[t].build(lv);
 
-        // ===== Combat =====
-        float baseAtk = (type == PhantomType.BLUE) ? 10f : 12f;
-        float atk = baseAtk + (lv - 1) * 2.2f;
+        return grow(t, lv);
+    }
 
-        float res = MathUtils.clamp(
-                0.05f + (lv - 1) * 0.03f,
-                0f,
-                0.45f
-        );
+    public Curves getCurves(PhantomType type) { return curves[type.ordinal()]; }
+
+    private BallStats grow(int t, int lv) {
+        synchronized (tables) {
+            BallStats[] table = tables.get(t);
+            if (lv >= table.length) {
+                int size = table.length;
+                while (size <= lv) size *= 2;
+                table = buildTable(t, Math.min(size, TABLE_LIMIT));
+                tables.set(t, table);
+            }
+            return table[lv];
+        }
+    }
+
+    private BallStats[] buildTable(int t, int size) {
+        BallStats[] table = new BallStats[size];
+        for (int lv = 1; lv < size; lv++) table[lv] = curves[t].build(lv);
+        return table;
+    }
+
+    // ===================== DATA =====================
+
+    private static Curves[] loadCurves() {
+        Curves[] out = builtIn();
 
-        // ===== Speed =====
-        float baseSpd = 210f;
-        float spd = baseSpd + (lv - 1) * 6f;
-
-        // ===== Size bounds (HP maps into this) =====
-        float minR = 10f + (lv - 1) * 2f;
-        float maxR = 30f + (lv - 1) * 3f;
-
-        float growAmount   = 2.2f + (lv - 1) * 0.15f;
-        float shrinkAmount = 3.2f + (lv - 1) * 0.20f;
-
-        int xpToNext = 10 + (lv - 1) * 5;
-
-        return new BallStats(
-                lv,
-                spd,
-                hp,
-                atk,
-                res,
-                minR,
-                maxR,
-                growAmount,
-                shrinkAmount,
-                xpToNext
+        FileHandle file = (Gdx.files != null) ? Gdx.files.internal(DATA_FILE) : null;
+        if (file == null || !file.exists()) return out;
+
+        try {
+            JsonValue root = new JsonReader().parse(file);
+            for (PhantomType type : PhantomType.values()) {
+                JsonValue v = root.get(type.name());
+                if (v == null) continue;
+
+                Curves c = parse(v, out[type.ordinal()]);
+                c.validate(type.name());
+                out[type.ordinal()] = c;
+            }
+        } catch (RuntimeException e) {
+            // Keep playing on the built-in curves rather than crash on a bad edit
+            if (Gdx.app != null) Gdx.app.error("BallProgression", "Bad " + DATA_FILE + ", using defaults", e);
+            return builtIn();
+        }
+        return out;
+    }
+
+    private static Curves parse(JsonValue v, Curves d) {
+        return new Curves(
+                curve(v, "hp", d.hp),
+                curve(v, "attack", d.attack),
+                curve(v, "resistance", d.resistance),
+                curve(v, "speed", d.speed),
+                curve(v, "minRadius", d.minRadius),
+                curve(v, "maxRadius", d.maxRadius),
+                curve(v, "grow", d.grow),
+                curve(v, "shrink", d.shrink),
+                curve(v, "xpToNext", d.xpToNext)
         );
     }
+
+    // [base, perLevel] or [base, perLevel, min, max]
+    private static Curve curve(JsonValue v, String name, Curve fallback) {
+        JsonValue c = v.get(name);
+        if (c == null) return fallback;
+
+        float[] a = c.asFloatArray();
+        for (float f : a) {
+            if (Float.isNaN(f)) throw new IllegalArgumentException(name + " has NaN");
+        }
+        if (a.length == 4) return new Curve(a[0], a[1], a[2], a[3]);
+        if (a.length == 2) return new Curve(a[0], a[1]);
+        throw new IllegalArgumentException(name + " needs [base, perLevel] or [base, perLevel, min, max]");
+    }
+
+    private static Curves[] builtIn() {
+        PhantomType[] types = PhantomType.values();
+        Curves[] out = new Curves[types.length];
+
+        for (PhantomType type : types) {
+            out[type.ordinal()] = new Curves(
+                    // ===== HP (LOW START, GOOD READABILITY) =====
+                    new Curve(10f, 10f),
+                    // ===== Combat =====
+                    new Curve(type == PhantomType.BLUE ? 10f : 12f, 2.2f),
+                    new Curve(0.05f, 0.03f, 0f, 0.45f),
+                    // ===== Speed =====
+                    new Curve(210f, 6f),
+                    // ===== Size bounds (HP maps into this) =====
+                    new Curve(10f, 2f),
+                    new Curve(30f, 3f),
+                    new Curve(2.2f, 0.15f),
+                    new Curve(3.2f, 0.20f),
+                    new Curve(10f, 5f)
+            );
+        }
+        return out;
+    }
 }
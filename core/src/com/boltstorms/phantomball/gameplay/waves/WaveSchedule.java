@@ -0,0 +1,148 @@
+package com.boltstorms.phantomball.gameplay.waves;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.boltstorms.phantomball.gameplay.PhantomType;
+
+/**
+ * The waves of a match: when each starts, how many spirits it brings, their level range and
+ * type mix. Past the listed waves the last one repeats, escalated by the repeat rules
+ * (more spirits and higher levels each time), or the schedule ends if there are none.
+ *
+ * Comes from {@link #DATA_FILE} when it exists, else from the built-in schedule below.
+ * The waves never change, but repeats come back in one reused {@link Wave}, so a schedule
+ * is read from one thread at a time.
+ */
+public final class WaveSchedule {
+
+    public static final String DATA_FILE = "data/waves.json";
+
+    /** One wave. {@code mix} holds a weight per type ordinal (all zero = uniform). */
+    public static final class Wave {
+        private float delay;
+        private int count, minLevel, maxLevel;
+        private float[] mix;
+
+        public Wave(float delay, int count, int minLevel, int maxLevel, float[] mix) {
+            set(delay, count, minLevel, maxLevel, mix.clone());
+        }
+
+        private Wave() {}
+
+        private void set(float delay, int count, int minLevel, int maxLevel, float[] mix) {
+            this.delay = Math.max(0f, delay);
+            this.count = Math.max(0, count);
+            this.minLevel = Math.max(1, minLevel);
+            this.maxLevel = Math.max(this.minLevel, maxLevel);
+            this.mix = mix;
+        }
+
+        public float getDelay() { return delay; }
+        public int getCount() { return count; }
+        public int getMinLevel() { return minLevel; }
+        public int getMaxLevel() { return maxLevel; }
+
+        /** Weight of {@code type} in this wave's mix. */
+        public float weight(PhantomType type) { return mix[type.ordinal()]; }
+
+        float[] mix() { return mix; }
+    }
+
+    private final Wave[] waves;
+
+    // Escalation past the list (repeatDelay <= 0 = no repeats)
+    private final float repeatDelay, countScale;
+    private final int levelStep, maxCount;
+
+    // Handed out for every repeat
+    private final Wave repeat = new Wave();
+
+    public WaveSchedule(Wave[] waves, float repeatDelay, float countScale, int levelStep, int maxCount) {
+        this.waves = waves.clone();
+        this.repeatDelay = repeatDelay;
+        this.countScale = Math.max(1f, countScale);
+        this.levelStep = Math.max(0, levelStep);
+        this.maxCount = Math.max(0, maxCount);
+    }
+
+    /** Listed waves (repeats not counted). */
+    public int size() { return waves.length; }
+
+    public boolean repeats() { return repeatDelay > 0f && waves.length > 0; }
+
+    /**
+     * Wave {@code n} (0-based). {@code delay} is seconds after the previous wave started
+     * (the match start for wave 0). Null once the schedule has ended. A repeat is only
+     * valid until the next call.
+     */
+    public Wave get(int n) {
+        if (n < 0) return null;
+        if (n < waves.length) return waves[n];
+        if (!repeats()) return null;
+
+        Wave last = waves[waves.length - 1];
+        int k = n - (waves.length - 1);
+        int count = (int) Math.min(maxCount, Math.round(last.count * Math.pow(countScale, k)));
+        int step = k * levelStep;
+        repeat.set(repeatDelay, count, last.minLevel + step, last.maxLevel + step, last.mix);
+        return repeat;
+    }
+
+    // ===================== DATA =====================
+
+    public static WaveSchedule load() {
+        FileHandle file = (Gdx.files != null) ? Gdx.files.internal(DATA_FILE) : null;
+        if (file == null || !file.exists()) return builtIn();
+
+        try {
+            return parse(new JsonReader().parse(file));
+        } catch (RuntimeException e) {
+            // Keep playing on the built-in schedule rather than crash on a bad edit
+            if (Gdx.app != null) Gdx.app.error("WaveSchedule", "Bad " + DATA_FILE + ", using defaults", e);
+            return builtIn();
+        }
+    }
+
+    private static WaveSchedule parse(JsonValue root) {
+        JsonValue list = root.get("waves");
+        Wave[] waves = new Wave[list == null ? 0 : list.size];
+        for (int i = 0; i < waves.length; i++) waves[i] = wave(list.get(i));
+
+        JsonValue r = root.get("repeat");
+        if (r == null) return new WaveSchedule(waves, 0f, 1f, 0, 0);
+        return new WaveSchedule(waves,
+                r.getFloat("delay", 0f),
+                r.getFloat("countScale", 1f),
+                r.getInt("levelStep", 0),
+                r.getInt("maxCount", 2000));
+    }
+
+    // { "delay": s, "count": n, "levels": [min, max], "mix": { "BLUE": w, ... } }
+    private static Wave wave(JsonValue v) {
+        int[] levels = v.has("levels") ? v.get("levels").asIntArray() : new int[]{1, 1};
+
+        float[] mix = new float[PhantomType.COUNT];
+        JsonValue m = v.get("mix");
+        for (PhantomType type : PhantomType.ALL) {
+            mix[type.ordinal()] = (m == null) ? 1f : m.getFloat(type.name(), 0f);
+        }
+
+        return new Wave(v.getFloat("delay", 0f), v.getInt("count"),
+                levels[0], levels[levels.length - 1], mix);
+    }
+
+    private static WaveSchedule builtIn() {
+        float[] even = new float[PhantomType.COUNT];
+        for (int t = 0; t < even.length; t++) even[t] = 1f;
+
+        Wave[] waves = {
+                new Wave(10f, 20, 1, 2, even),
+                new Wave(25f, 60, 1, 3, even),
+                new Wave(30f, 150, 2, 4, even),
+                new Wave(35f, 500, 3, 6, even)
+        };
+        return new WaveSchedule(waves, 45f, 1.2f, 1, 2000);
+    }
+}
@@ -0,0 +1,157 @@
+package com.boltstorms.phantomball.gameplay.waves;
+
+import com.badlogic.gdx.utils.Array;
+import com.boltstorms.phantomball.gameplay.WorldController;
+import com.boltstorms.phantomball.util.Const;
+
+/**
+ * Runs a {@link WaveSchedule} against a world.
+ *
+ * A wave that starts is only queued; each frame {@link #update} spawns queued spirits in
+ * slices of {@link Const#WAVE_SPAWN_SLICE} until the frame's budget
+ * ({@link Const#WAVE_SPAWN_BUDGET_MS} by default) is used, so a 500-spirit wave is spread
+ * over several frames instead of landing in one. At least one slice runs per frame, so
+ * waves always finish. Waves spawn in order; one that starts while another is still
+ * spawning waits behind it.
+ *
+ * Every slice goes through {@link WorldController#spawnWave}, which is recorded, so replays
+ * reproduce waves exactly even though slice timing depends on the device.
+ */
+public final class WaveSpawner {
+
+    private final WorldController world;
+    private final WaveSchedule schedule;
+
+    private long budgetNanos = (long) (Const.WAVE_SPAWN_BUDGET_MS * 1_000_000L);
+
+    // Seconds of unpaused play, and until the next wave starts
+    private float time;
+    private float untilNext;
+    private int nextIndex;
+    private boolean hasNext;
+
+    // Started waves with spirits still to spawn (oldest first); the stats hold a copy of
+    // each wave, since the schedule reuses one instance for repeats
+    private final Array<WaveStats> running = new Array<>();
+
+    // Every wave started since reset
+    private final Array<WaveStats> history = new Array<>();
+
+    private long lastFrameNanos, worstFrameNanos;
+
+    public WaveSpawner(WorldController world, WaveSchedule schedule) {
+        this.world = world;
+        this.schedule = schedule;
+        reset();
+    }
+
+    /** Back to before the first wave (call after the world is reset). */
+    public void reset() {
+        time = 0f;
+        nextIndex = 0;
+        WaveSchedule.Wave next = schedule.get(0);
+        hasNext = next != null;
+        untilNext = hasNext ? next.getDelay() : 0f;
+
+        running.clear();
+        history.clear();
+        lastFrameNanos = worstFrameNanos = 0L;
+    }
+
+    /** Max spawn work per frame in milliseconds. */
+    public void setBudgetMs(float ms) {
+        budgetNanos = (long) (Math.max(0f, ms) * 1_000_000L);
+    }
+
+    public float getBudgetMs() { return budgetNanos / 1_000_000f; }
+
+    /** Starts due waves and spends up to the budget spawning; nothing while the world is paused. */
+    public void update(float delta) {
+        lastFrameNanos = 0L;
+        if (world.isPaused()) return;
+
+        time += delta;
+        untilNext -= delta;
+        while (hasNext && untilNext <= 0f) {
+            start(schedule.get(nextIndex));
+            WaveSchedule.Wave next = schedule.get(++nextIndex);
+            hasNext = next != null;
+            if (hasNext) untilNext += next.getDelay();
+        }
+
+        if (running.size > 0) spawnSlices();
+    }
+
+    private void start(WaveSchedule.Wave wave) {
+        WaveStats stats = new WaveStats(history.size, wave, time);
+        history.add(stats);
+        if (stats.count == 0) {
+            stats.finishTime = time;
+            return;
+        }
+        running.add(stats);
+    }
+
+    private void spawnSlices() {
+        long frameStart = System.nanoTime();
+        long waveStart = frameStart;
+        int waveSpawned = 0;
+
+        while (running.size > 0) {
+            WaveStats stats = running.first();
+
+            int n = Math.min(Const.WAVE_SPAWN_SLICE, stats.count - stats.spawned - waveSpawned);
+            world.spawnWave(n, stats.minLevel, stats.maxLevel, stats.mix);
+            waveSpawned += n;
+
+            long now = System.nanoTime();
+            if (stats.spawned + waveSpawned >= stats.count) {
+                // Charge this frame's share to the finished wave and move to the next
+                stats.addFrame(waveSpawned, now - waveStart);
+                stats.finishTime = time;
+                running.removeIndex(0);
+                waveStart = now;
+                waveSpawned = 0;
+            }
+
+            if (now - frameStart >= budgetNanos) break;
+        }
+
+        long end = System.nanoTime();
+        if (waveSpawned > 0) running.first().addFrame(waveSpawned, end - waveStart);
+
+        lastFrameNanos = end - frameStart;
+        if (lastFrameNanos > worstFrameNanos) worstFrameNanos = lastFrameNanos;
+    }
+
+    // ===================== METRICS =====================
+
+    /** Waves started so far. */
+    public int getWaveCount() { return history.size; }
+
+    /** Stats of every wave started since reset, oldest first (do not modify). */
+    public Array<WaveStats> getHistory() { return history; }
+
+    /** The most recently started wave, or null before the first. */
+    public WaveStats getLatest() { return history.size > 0 ? history.peek() : null; }
+
+    /** Spirits from started waves not spawned yet. */
+    public int getPending() {
+        int n = 0;
+        for (int w = 0; w < running.size; w++) n += running.get(w).count - running.get(w).spawned;
+        return n;
+    }
+
+    /** Seconds of play until the next wave starts, or -1 if the schedule has ended. */
+    public float getTimeToNext() { return hasNext ? Math.max(0f, untilNext) : -1f; }
+
+    public float getTime() { return time; }
+
+    /** Spawn work done in the last update. */
+    public float getLastFrameMs() { return lastFrameNanos / 1_000_000f; }
+
+    /** Most spawn work done in a single update since reset. */
+    public float getWorstFrameMs() { return worstFrameNanos / 1_000_000f; }
+
+    public WaveSchedule getSchedule() { return schedule; }
+}
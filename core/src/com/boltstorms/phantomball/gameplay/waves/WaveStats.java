@@ -0,0 +1,56 @@
+package com.boltstorms.phantomball.gameplay.waves;
+
+/**
+ * Timing of one wave, kept by {@link WaveSpawner}. Times are seconds of unpaused play since
+ * the spawner was reset; CPU times are wall-clock spawn work only.
+ */
+public final class WaveStats {
+
+    final int index, count, minLevel, maxLevel;
+    final float startTime;
+    final float[] mix; // the wave's, shared
+
+    int spawned = 0;
+    float finishTime = -1f;
+    int frames = 0;
+    long spawnNanos = 0L;
+    long worstFrameNanos = 0L;
+
+    WaveStats(int index, WaveSchedule.Wave wave, float startTime) {
+        this.index = index;
+        this.count = wave.getCount();
+        this.minLevel = wave.getMinLevel();
+        this.maxLevel = wave.getMaxLevel();
+        this.mix = wave.mix();
+        this.startTime = startTime;
+    }
+
+    void addFrame(int spirits, long nanos) {
+        spawned += spirits;
+        frames++;
+        spawnNanos += nanos;
+        if (nanos > worstFrameNanos) worstFrameNanos = nanos;
+    }
+
+    /** 0-based wave number. */
+    public int getIndex() { return index; }
+    public int getCount() { return count; }
+    public int getSpawned() { return spawned; }
+    public int getMinLevel() { return minLevel; }
+    public int getMaxLevel() { return maxLevel; }
+
+    public boolean isDone() { return spawned >= count; }
+
+    public float getStartTime() { return startTime; }
+
+    /** Play time from the wave starting to its last spirit spawning (-1 while spawning). */
+    public float getSpawnDuration() { return finishTime < 0f ? -1f : finishTime - startTime; }
+
+    /** Frames that did spawn work for this wave. */
+    public int getFrames() { return frames; }
+
+    public float getSpawnMs() { return spawnNanos / 1_000_000f; }
+
+    /** Most spawn work this wave did in one frame. */
+    public float getWorstFrameMs() { return worstFrameNanos / 1_000_000f; }
+}
@@ -0,0 +1,81 @@
+package com.boltstorms.phantomball.render;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.MathUtils;
+import com.boltstorms.phantomball.assets.GameAssets;
+import com.boltstorms.phantomball.gameplay.Ball;
+import com.boltstorms.phantomball.gameplay.PhantomType;
+import com.boltstorms.phantomball.util.Const;
+
+public class BallRenderer {
+
+    private static final float PULSE_AMPLITUDE = 0.08f;
+    private static final float PULSE_SPEED = 3.5f;
+
+    // Two animation frames per type, indexed by PhantomType ordinal
+    private static final String[][] FRAMES = {
+            {"PhantomPlayer.png", "PhantomPlayer.png"},
+            {"PhantomPlayerPink.png", "PhantomPlayerPink.png"}
+    };
+
+    private final TextureRegion[] frame1 = new TextureRegion[PhantomType.COUNT];
+    private final TextureRegion[] frame2 = new TextureRegion[PhantomType.COUNT];
+
+    private final GameAssets assets;
+
+    public BallRenderer(GameAssets assets) {
+        this.assets = assets;
+
+        // Both frames may name the same file; the registry hands back one shared texture/atlas page
+        for (int t = 0; t < frame1.length; t++) {
+            frame1[t] = assets.acquireRegion(FRAMES[t][0], Texture.TextureFilter.Linear);
+            frame2[t] = assets.acquireRegion(FRAMES[t][1], Texture.TextureFilter.Linear);
+        }
+    }
+
+    public static void preload(GameAssets assets) {
+        for (String[] type : FRAMES) {
+            for (String path : type) assets.preloadRegion(path, Texture.TextureFilter.Linear);
+        }
+    }
+
+    /** alpha blends between the previous and current tick position (fixed-step sim). */
+    public void draw(SpriteBatch batch, Ball ball, float alpha) {
+        int t = ball.getType().ordinal();
+        TextureRegion tex = ball.isFrameB() ? frame2[t] : frame1[t];
+
+        float pulse = 1f + MathUtils.sin(ball.getAnimTime() * PULSE_SPEED) * PULSE_AMPLITUDE;
+
+        // Sprite size uses r but still respects your sprite scale
+        float size = ball.getR() * 2f * pulse * Const.BALL_SPRITE_SCALE;
+
+        float x = MathUtils.lerp(ball.getPrevPos().x, ball.getPos().x, alpha) - size * 0.5f;
+        float y = MathUtils.lerp(ball.getPrevPos().y, ball.getPos().y, alpha) - size * 0.5f;
+
+        batch.draw(
+                tex,
+                x, y,
+                size * 0.5f, size * 0.5f,
+                size, size,
+                1f, 1f,
+                ball.getRotation()
+        );
+    }
+
+    public void drawDebug(ShapeRenderer sr, Ball ball) {
+        if (!Const.DEBUG_DRAW) return;
+        sr.setColor(1f, 1f, 0f, 1f);
+        sr.circle(ball.getPos().x, ball.getPos().y, ball.getR());
+    }
+
+    public void dispose() {
+        for (int t = 0; t < frame1.length; t++) {
+            if (frame1[t] != null) assets.releaseRegion(FRAMES[t][0]);
+            if (frame2[t] != null) assets.releaseRegion(FRAMES[t][1]);
+            frame1[t] = frame2[t] = null;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.boltstorms.phantomball.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.boltstorms.phantomball.gameplay.EntityPool;
+import com.boltstorms.phantomball.gameplay.SpiritStore;
+import com.boltstorms.phantomball.gameplay.WorldController;
+import com.boltstorms.phantomball.gameplay.waves.WaveSpawner;
+import com.boltstorms.phantomball.gameplay.waves.WaveStats;
+
+/**
+ * On-screen frame profiler: frame time with a rolling graph, CPU time per render phase,
+ * GL counters, entity counts, pool high-water marks and wave spawn timing.
+ *
+ * Screens call {@link #beginFrame()}, {@link #mark(int)} after each phase and
+ * {@link #endFrame(float)}; while hidden those return right away and the {@link GLProfiler}
+ * is disabled, so it can stay wired into release builds. Phase times are CPU only
+ * (GL work is asynchronous). Text is averaged over {@link #REFRESH} seconds.
+ */
+public class PerfOverlay {
+
+    // ===================== PHASES =====================
+
+    public static final int INPUT = 0;
+    public static final int UPDATE = 1;
+    public static final int WORLD = 2;
+    public static final int HUD = 3;
+    public static final int PAUSE = 4;
+    private static final int PHASES = 5;
+
+    private static final String[] PHASE_NAMES = {"input", "update", "world", "hud", "pause"};
+
+    private static final int GRAPH_SAMPLES = 120;
+    private static final float GRAPH_MAX_MS = 50f;
+    private static final float REFRESH = 0.25f;
+
+    private final GLProfiler profiler;
+    private boolean enabled = false;
+
+    // Current frame
+    private long lastMark;
+    private final long[] phaseNanos = new long[PHASES];
+
+    // Averaging window
+    private final long[] windowNanos = new long[PHASES];
+    private float windowTime = 0f;
+    private int windowFrames = 0;
+    private long windowDrawCalls, windowBinds, windowShaders, windowVertices;
+
+    // Displayed values (last window)
+    private final float[] shownPhaseMs = new float[PHASES];
+    private float shownFrameMs, shownCpuMs;
+    private int shownDrawCalls, shownBinds, shownShaders, shownVertices;
+
+    // Rolling frame-time graph
+    private final float[] graph = new float[GRAPH_SAMPLES];
+    private int graphHead = 0;
+
+    private final StringBuilder text = new StringBuilder(256);
+
+    public PerfOverlay() {
+        profiler = new GLProfiler(Gdx.graphics);
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    public void toggle() { setEnabled(!enabled); }
+
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) return;
+        this.enabled = enabled;
+
+        // The profiler wraps every GL call, so it only runs while visible
+        if (enabled) {
+            profiler.enable();
+            profiler.reset();
+            resetWindow();
+        } else {
+            profiler.disable();
+        }
+    }
+
+    // ===================== TIMING =====================
+
+    public void beginFrame() {
+        if (!enabled) return;
+        for (int i = 0; i < PHASES; i++) phaseNanos[i] = 0L;
+        profiler.reset(); // so the overlay's own draws are not counted
+        lastMark = System.nanoTime();
+    }
+
+    /** Charges the time since the previous mark (or beginFrame) to {@code phase}. */
+    public void mark(int phase) {
+        if (!enabled) return;
+        long now = System.nanoTime();
+        phaseNanos[phase] += now - lastMark;
+        lastMark = now;
+    }
+
+    /** Call after the last draw, before the overlay itself is drawn. */
+    public void endFrame(float delta) {
+        if (!enabled) return;
+
+        float frameMs = delta * 1000f;
+        graph[graphHead] = frameMs;
+        graphHead = (graphHead + 1) % GRAPH_SAMPLES;
+
+        for (int i = 0; i < PHASES; i++) windowNanos[i] += phaseNanos[i];
+        windowDrawCalls += profiler.getDrawCalls();
+        windowBinds += profiler.getTextureBindings();
+        windowShaders += profiler.getShaderSwitches();
+        windowVertices += (long) profiler.getVertexCount().total;
+
+        windowTime += delta;
+        windowFrames++;
+        if (windowTime < REFRESH) return;
+
+        float inv = 1f / windowFrames;
+        shownFrameMs = windowTime * 1000f * inv;
+        shownCpuMs = 0f;
+        for (int i = 0; i < PHASES; i++) {
+            shownPhaseMs[i] = windowNanos[i] / 1_000_000f * inv;
+            shownCpuMs += shownPhaseMs[i];
+        }
+        shownDrawCalls = Math.round(windowDrawCalls * inv);
+        shownBinds = Math.round(windowBinds * inv);
+        shownShaders = Math.round(windowShaders * inv);
+        shownVertices = Math.round(windowVertices * inv);
+
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        for (int i = 0; i < PHASES; i++) windowNanos[i] = 0L;
+        windowTime = 0f;
+        windowFrames = 0;
+        windowDrawCalls = windowBinds = windowShaders = windowVertices = 0L;
+    }
+
+    // ===================== DRAW =====================
+
+    /**
+     * Draws the panel with its top-left corner at (x, top). Batch and renderer must not be
+     * active; {@code waves} may be null.
+     */
+    public void draw(ShapeRenderer sr, SpriteBatch batch, BitmapFont font,
+                     float x, float top, WorldController world, WaveSpawner waves) {
+        if (!enabled) return;
+
+        float w = 460f;
+        float graphH = 80f;
+        float lineH = font.getLineHeight();
+        float textH = lineH * (waves != null ? 8f : 7f) + 12f;
+        float h = graphH + textH;
+        float y = top - h;
+
+        float graphY = y;
+        float scale = graphH / GRAPH_MAX_MS;
+        float barW = w / GRAPH_SAMPLES;
+
+        sr.begin(ShapeRenderer.ShapeType.Filled);
+        sr.setColor(0f, 0f, 0f, 0.7f);
+        sr.rect(x, y, w, h);
+
+        for (int i = 0; i < GRAPH_SAMPLES; i++) {
+            float ms = graph[(graphHead + i) % GRAPH_SAMPLES];
+            if (ms <= 0f) continue;
+
+            if (ms > 33.4f) sr.setColor(1f, 0.25f, 0.25f, 1f);
+            else if (ms > 16.8f) sr.setColor(1f, 0.8f, 0.2f, 1f);
+            else sr.setColor(0.3f, 1f, 0.4f, 1f);
+
+            sr.rect(x + i * barW, graphY, barW, Math.min(ms, GRAPH_MAX_MS) * scale);
+        }
+        sr.end();
+
+        // 60 / 30 fps guides
+        sr.begin(ShapeRenderer.ShapeType.Line);
+        sr.setColor(1f, 1f, 1f, 0.5f);
+        sr.line(x, graphY + 16.7f * scale, x + w, graphY + 16.7f * scale);
+        sr.line(x, graphY + 33.3f * scale, x + w, graphY + 33.3f * scale);
+        sr.end();
+
+        float ty = top - 6f;
+        batch.begin();
+
+        text.setLength(0);
+        text.append("FRAME ");
+        fixed(text, shownFrameMs).append(" ms  ").append(shownFrameMs > 0f ? Math.round(1000f / shownFrameMs) : 0)
+                .append(" fps  CPU ");
+        fixed(text, shownCpuMs).append(" ms");
+        font.draw(batch, text, x + 8f, ty);
+        ty -= lineH;
+
+        for (int row = 0; row < 2; row++) {
+            text.setLength(0);
+            for (int i = row * 3; i < Math.min(PHASES, row * 3 + 3); i++) {
+                text.append(PHASE_NAMES[i]).append(' ');
+                fixed(text, shownPhaseMs[i]).append("  ");
+            }
+            font.draw(batch, text, x + 8f, ty);
+            ty -= lineH;
+        }
+
+        text.setLength(0);
+        text.append("draws ").append(shownDrawCalls).append("  binds ").append(shownBinds)
+                .append("  shaders ").append(shownShaders);
+        font.draw(batch, text, x + 8f, ty);
+        ty -= lineH;
+
+        text.setLength(0);
+        text.append("verts ").append(shownVertices);
+        font.draw(batch, text, x + 8f, ty);
+        ty -= lineH;
+
+        EntityPool<?> balls = world.getBallPool();
+        SpiritStore spirits = world.getSpirits();
+
+        text.setLength(0);
+        text.append("spirits ").append(spirits.size()).append("  balls ").append(balls.getLive())
+                .append("  tick ").append(world.getTickCount());
+        font.draw(batch, text, x + 8f, ty);
+        ty -= lineH;
+
+        // live peak / objects created (balls); size peak / capacity, regrows (spirits)
+        text.setLength(0);
+        text.append("pool ball ").append(balls.getLivePeak()).append('/').append(balls.getCreated())
+                .append("  spirit ").append(spirits.getPeakSize()).append('/').append(spirits.capacity())
+                .append(" +").append(spirits.getGrowCount());
+        font.draw(batch, text, x + 8f, ty);
+        ty -= lineH;
+
+        // wave n spawned/count, pending spirits, this wave's worst frame, worst frame overall
+        WaveStats wave = (waves != null) ? waves.getLatest() : null;
+        if (waves != null) {
+            text.setLength(0);
+            text.append("wave ");
+            if (wave != null) {
+                text.append(wave.getIndex() + 1).append(' ').append(wave.getSpawned()).append('/').append(wave.getCount())
+                        .append("  pending ").append(waves.getPending()).append("  worst ");
+                fixed(text, wave.getWorstFrameMs()).append('/');
+            } else {
+                text.append("-  next ");
+                fixed(text, waves.getTimeToNext()).append(" s  worst ");
+            }
+            fixed(text, waves.getWorstFrameMs()).append(" ms");
+            font.draw(batch, text, x + 8f, ty);
+        }
+
+        batch.end();
+    }
+
+    // One decimal, no String.format
+    private static StringBuilder fixed(StringBuilder sb, float v) {
+        int tenths = Math.round(v * 10f);
+        return sb.append(tenths / 10).append('.').append(Math.abs(tenths % 10));
+    }
+
+    public void dispose() {
+        setEnabled(false);
+    }
+}
@@ -0,0 +1,66 @@
+package com.boltstorms.phantomball.render;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.boltstorms.phantomball.assets.GameAssets;
+import com.boltstorms.phantomball.gameplay.PhantomType;
+import com.boltstorms.phantomball.gameplay.SpiritStore;
+import com.boltstorms.phantomball.util.Const;
+
+public class SpiritRenderer {
+
+    // Two sprite variants per type, indexed by PhantomType ordinal
+    private static final String[][] SPRITES = {
+            {"BlueSpirit1.png", "BlueSpirit2.png"},
+            {"RedSpirit1.png", "RedSpirit2.png"}
+    };
+
+    // Debug outline color per type
+    private static final float[][] DEBUG_COLORS = {
+            {0f, 0.6f, 1f},
+            {1f, 0.2f, 0.2f}
+    };
+
+    private final GameAssets assets;
+    private final TextureRegion[][] sprites = new TextureRegion[PhantomType.COUNT][2];
+
+    public SpiritRenderer(GameAssets assets) {
+        this.assets = assets;
+        for (int t = 0; t < sprites.length; t++) {
+            for (int v = 0; v < 2; v++) sprites[t][v] = assets.acquireRegion(SPRITES[t][v], Texture.TextureFilter.Nearest);
+        }
+    }
+
+    public static void preload(GameAssets assets) {
+        for (String[] type : SPRITES) {
+            for (String path : type) assets.preloadRegion(path, Texture.TextureFilter.Nearest);
+        }
+    }
+
+    public void draw(SpriteBatch batch, SpiritStore s, float alpha) {
+        for (int i = 0, n = s.size(); i < n; i++) {
+            TextureRegion sprite = sprites[s.getTypeOrdinal(i)][s.getSprite(i)];
+
+            float r = s.getR(i);
+            batch.draw(sprite, s.lerpX(i, alpha) - r, s.lerpY(i, alpha) - r, r * 2f, r * 2f);
+        }
+    }
+
+    public void drawDebug(ShapeRenderer sr, SpiritStore s) {
+        if (!Const.DEBUG_DRAW) return;
+
+        for (int i = 0, n = s.size(); i < n; i++) {
+            float[] c = DEBUG_COLORS[s.getTypeOrdinal(i)];
+            sr.setColor(c[0], c[1], c[2], 1f);
+            sr.circle(s.getX(i), s.getY(i), s.getR(i));
+        }
+    }
+
+    public void dispose() {
+        for (String[] type : SPRITES) {
+            for (String path : type) assets.releaseRegion(path);
+        }
+    }
+}
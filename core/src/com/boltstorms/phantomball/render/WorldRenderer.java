@@ -0,0 +1,58 @@
+package com.boltstorms.phantomball.render;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Array;
+import com.boltstorms.phantomball.assets.GameAssets;
+import com.boltstorms.phantomball.gameplay.Ball;
+import com.boltstorms.phantomball.gameplay.WorldController;
+import com.boltstorms.phantomball.util.Const;
+
+/**
+ * Draws a {@link WorldController}. The world itself has no GL state, so this is the only
+ * place sim entities are mapped to textures.
+ */
+public class WorldRenderer {
+
+    private final SpiritRenderer spirits;
+    private final BallRenderer balls;
+
+    public WorldRenderer(GameAssets assets) {
+        spirits = new SpiritRenderer(assets);
+        balls = new BallRenderer(assets);
+    }
+
+    public static void preload(GameAssets assets) {
+        SpiritRenderer.preload(assets);
+        BallRenderer.preload(assets);
+    }
+
+    public void draw(WorldController world, ShapeRenderer sr, SpriteBatch batch) {
+        float alpha = world.getAlpha();
+
+        batch.begin();
+        spirits.draw(batch, world.getSpirits(), alpha);
+        Array<Ball> inPlay = world.getBalls();
+        for (int b = 0; b < inPlay.size; b++) balls.draw(batch, inPlay.get(b), alpha);
+        batch.end();
+
+        if (!Const.DEBUG_DRAW) return;
+
+        sr.begin(ShapeRenderer.ShapeType.Line);
+        spirits.drawDebug(sr, world.getSpirits());
+        for (int b = 0; b < inPlay.size; b++) balls.drawDebug(sr, inPlay.get(b));
+        sr.end();
+    }
+
+    public void drawDebugBounds(WorldController world, ShapeRenderer sr) {
+        if (!Const.DEBUG_DRAW) return;
+
+        sr.setColor(0f, 1f, 0f, 1f);
+        sr.rect(0, 0, world.getWidth(), world.getHeight());
+    }
+
+    public void dispose() {
+        spirits.dispose();
+        balls.dispose();
+    }
+}
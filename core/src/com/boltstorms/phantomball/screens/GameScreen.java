@@ -1,6 +1,7 @@
 package com.boltstorms.phantomball.screens;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.GL20;
@@ -8,15 +9,24 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.boltstorms.phantomball.PhantomBallGame;
+import com.boltstorms.phantomball.assets.GameAssets;
 import com.boltstorms.phantomball.backgrounds.FireplaceBackground;
 import com.boltstorms.phantomball.gameplay.EvilSpirit;
+import com.boltstorms.phantomball.gameplay.PhantomType;
 import com.boltstorms.phantomball.gameplay.WorldController;
+import com.boltstorms.phantomball.gameplay.waves.WaveSchedule;
+import com.boltstorms.phantomball.gameplay.waves.WaveSpawner;
+import com.boltstorms.phantomball.render.PerfOverlay;
+import com.boltstorms.phantomball.render.WorldRenderer;
 import com.boltstorms.phantomball.util.Const;
 
 public class GameScreen extends ScreenAdapter {
@@ -25,6 +35,8 @@ public class GameScreen extends ScreenAdapter {
 
     private ShapeRenderer sr;
     private WorldController world;
+    private WaveSpawner waves; // null unless Const.WAVES
+    private WorldRenderer worldRenderer;
 
     private SpriteBatch batch;
     private BitmapFont font;
@@ -37,28 +49,35 @@ public class GameScreen extends ScreenAdapter {
     private Rectangle resumeBtn;
     private Rectangle exitBtn;
 
-    // Bottom HUD bar + card areas
+    // Profiler overlay (toggled by F3, or by tapping the score with PERF_TAP_TOGGLE)
+    private PerfOverlay perf;
+    private Rectangle perfBtn;
+
+    // Bottom HUD bar + one card area per PhantomType (by ordinal)
     private Rectangle hudBar;
-    private Rectangle blueCard;
-    private Rectangle redCard;
+    private final Rectangle[] cards = new Rectangle[PhantomType.COUNT];
 
-    // Textures
-    private Texture blueCardTex;
-    private Texture redCardTex;
+    // Textures (shared through game.getAssets()), by PhantomType ordinal
+    private static final String[] CARD_TEXTURES = {"BlueSpiritCard1.png", "RedSpiritCard1.png"};
+    private final TextureRegion[] cardTex = new TextureRegion[PhantomType.COUNT];
 
     // Background
     private FireplaceBackground fireplaceBg;
 
     // UI animation
     private boolean touchDown = false;
-    private int pressed = 0; // 0 none, 1 blue, 2 red
-    private float blueScale = 1f;
-    private float redScale = 1f;
+    private int pressed = -1; // PhantomType ordinal of the held card, -1 none
+    private final float[] cardScale = new float[PhantomType.COUNT];
+
+    // Active-count label per type, rebuilt only when one of its numbers changes
+    private final String[] countText = new String[PhantomType.COUNT];
+    private final int[] countKey = new int[PhantomType.COUNT * 3];
 
     // Layout
     private float barH = 170f;
     private float playH = 0f;
 
+    private static final String MUSIC = "music/spirithunter.mp3";
     private Music bgMusic;
     private boolean musicPausedByWorld = false;
 
@@ -69,10 +88,18 @@ public class GameScreen extends ScreenAdapter {
         this.game = game;
     }
 
+    /** Queues everything show() acquires, so a {@link LoadingScreen} can stream it in first. */
+    public static void preload(GameAssets assets) {
+        assets.preloadMusic(MUSIC);
+        for (String card : CARD_TEXTURES) assets.preloadRegion(card, Texture.TextureFilter.Linear);
+        WorldRenderer.preload(assets);
+        FireplaceBackground.preload(assets, Const.STREAM_BACKGROUND_GIFS);
+    }
+
     @Override
     public void show() {
 
-        bgMusic = Gdx.audio.newMusic(Gdx.files.internal("music/spirithunter.mp3"));
+        bgMusic = game.getAssets().acquireMusic(MUSIC);
         bgMusic.setLooping(true);
         bgMusic.setVolume(0.6f);
         bgMusic.play();
@@ -92,21 +119,30 @@ public class GameScreen extends ScreenAdapter {
         sr.setProjectionMatrix(cam.combined);
 
         world = new WorldController();
+        if (Const.RECORD_REPLAYS) world.startRecording();
+        if (Const.WAVES) waves = new WaveSpawner(world, WaveSchedule.load());
+        worldRenderer = new WorldRenderer(game.getAssets());
 
         pauseBtn = new Rectangle();
         resumeBtn = new Rectangle();
         exitBtn = new Rectangle();
 
+        perf = new PerfOverlay();
+        perf.setEnabled(Const.PERF_OVERLAY);
+        perfBtn = new Rectangle();
+
         hudBar = new Rectangle();
-        blueCard = new Rectangle();
-        redCard = new Rectangle();
+        for (int t = 0; t < cards.length; t++) {
+            cards[t] = new Rectangle();
+            cardScale[t] = 1f;
+        }
 
-        fireplaceBg = new FireplaceBackground();
+        fireplaceBg = new FireplaceBackground(game.getAssets(),
+                Const.STREAM_BACKGROUND_GIFS, Const.INDEXED_BACKGROUND_GIFS);
 
-        blueCardTex = new Texture(Gdx.files.internal("BlueSpiritCard1.png"));
-        redCardTex  = new Texture(Gdx.files.internal("RedSpiritCard1.png"));
-        blueCardTex.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        redCardTex.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        for (int t = 0; t < cardTex.length; t++) {
+            cardTex[t] = game.getAssets().acquireRegion(CARD_TEXTURES[t], Texture.TextureFilter.Linear);
+        }
 
         rebuildUiLayout(true);
     }
@@ -123,6 +159,7 @@ public class GameScreen extends ScreenAdapter {
 
         if (firstTime) {
             world.resize((int) worldW, (int) playH);
+            if (waves != null) waves.reset();
         } else {
             world.setPlayBounds(worldW, playH);
         }
@@ -136,6 +173,9 @@ public class GameScreen extends ScreenAdapter {
                 btnSize
         );
 
+        // Score label (top-left) doubles as the profiler toggle in debug builds
+        perfBtn.set(0f, worldH - 70f, 260f, 70f);
+
         // Pause overlay buttons (center)
         resumeBtn.set(
                 worldW * 0.5f - 140f,
@@ -151,23 +191,21 @@ public class GameScreen extends ScreenAdapter {
                 80f
         );
 
-        // Card layout (inside HUD)
-        float cardAreaW = 210f;
-        float cardAreaH = barH - 32f;
+        // Card layout (inside HUD): one card per type, narrower when they don't fit
+        int n = cards.length;
         float gap = 32f;
+        float cardAreaW = Math.min(210f, (worldW - 32f - gap * (n - 1)) / n);
+        float cardAreaH = barH - 32f;
 
-        float totalW = cardAreaW * 2f + gap;
+        float totalW = cardAreaW * n + gap * (n - 1);
         float startX = (worldW - totalW) * 0.5f;
         float cardY = 16f;
 
-        blueCard.set(startX, cardY, cardAreaW, cardAreaH);
-        redCard.set(startX + cardAreaW + gap, cardY, cardAreaW, cardAreaH);
-
-        float blueCenterX = blueCard.x + blueCard.width * 0.5f;
-        float redCenterX  = redCard.x  + redCard.width  * 0.5f;
-
         float spawnY = 60f;
-        world.setSummonAnchors(blueCenterX, redCenterX, spawnY);
+        for (int t = 0; t < n; t++) {
+            cards[t].set(startX + t * (cardAreaW + gap), cardY, cardAreaW, cardAreaH);
+            world.setSummonAnchor(PhantomType.ALL[t], cards[t].x + cards[t].width * 0.5f, spawnY);
+        }
     }
 
     @Override
@@ -183,6 +221,7 @@ public class GameScreen extends ScreenAdapter {
 
     @Override
     public void render(float delta) {
+        perf.beginFrame();
 
         // keep music in sync with world pause
         if (world.isPaused()) {
@@ -200,12 +239,14 @@ public class GameScreen extends ScreenAdapter {
         smoothCardScales(delta);
 
         // ===== Input =====
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) perf.toggle();
+
         if (Gdx.input.justTouched()) {
             touchDown = true;
 
             Vector2 touch = new Vector2(Gdx.input.getX(), Gdx.input.getY());
             viewport.unproject(touch);
-            pressed = 0;
+            pressed = -1;
 
             if (world.isPaused()) {
                 if (resumeBtn.contains(touch)) world.setPaused(false);
@@ -224,6 +265,12 @@ public class GameScreen extends ScreenAdapter {
                 return;
             }
 
+            if (Const.PERF_TAP_TOGGLE && perfBtn.contains(touch)) {
+                perf.toggle();
+                touchDown = false;
+                return;
+            }
+
             // Tap spirit in WORLD area to show its level label
             // World is rendered with +barH transform, so convert by subtracting barH.
             if (touch.y > barH) {
@@ -238,8 +285,9 @@ public class GameScreen extends ScreenAdapter {
             }
 
             if (hudBar.contains(touch)) {
-                if (blueCard.contains(touch)) pressed = 1;
-                else if (redCard.contains(touch)) pressed = 2;
+                for (int t = 0; t < cards.length; t++) {
+                    if (cards[t].contains(touch)) pressed = t;
+                }
             }
         }
 
@@ -249,15 +297,17 @@ public class GameScreen extends ScreenAdapter {
             Vector2 touch = new Vector2(Gdx.input.getX(), Gdx.input.getY());
             viewport.unproject(touch);
 
-            if (pressed == 1 && blueCard.contains(touch)) world.summonBlue();
-            if (pressed == 2 && redCard.contains(touch)) world.summonRed();
+            if (pressed >= 0 && cards[pressed].contains(touch)) world.summon(PhantomType.ALL[pressed]);
 
-            pressed = 0;
+            pressed = -1;
         }
+        perf.mark(PerfOverlay.INPUT);
 
         // ===== Update =====
+        if (waves != null) waves.update(delta);
         world.update(delta);
         if (fireplaceBg != null) fireplaceBg.update(delta);
+        perf.mark(PerfOverlay.UPDATE);
 
         // ===== Render =====
         Gdx.gl.glClearColor(0.05f, 0.05f, 0.07f, 1f);
@@ -274,7 +324,7 @@ public class GameScreen extends ScreenAdapter {
         batch.setTransformMatrix(batch.getTransformMatrix().idt().translate(0, barH, 0));
         sr.setTransformMatrix(sr.getTransformMatrix().idt().translate(0, barH, 0));
 
-        world.draw(sr, batch);
+        worldRenderer.draw(world, sr, batch);
 
         // Draw label above selected spirit (inside world transform)
         EvilSpirit s = world.getSelectedSpirit();
@@ -289,21 +339,26 @@ public class GameScreen extends ScreenAdapter {
         // Reset transforms for HUD drawing
         batch.setTransformMatrix(batch.getTransformMatrix().idt());
         sr.setTransformMatrix(sr.getTransformMatrix().idt());
+        perf.mark(PerfOverlay.WORLD);
 
         drawHud();
+        perf.mark(PerfOverlay.HUD);
 
         if (world.isPaused()) {
             drawPauseOverlay();
         }
+        perf.mark(PerfOverlay.PAUSE);
+
+        perf.endFrame(delta);
+        perf.draw(sr, batch, font, 20f, viewport.getWorldHeight() - 80f, world, waves);
     }
 
     private void smoothCardScales(float delta) {
-        float targetBlue = (pressed == 1) ? 0.94f : 1f;
-        float targetRed  = (pressed == 2) ? 0.94f : 1f;
-
         float k = Math.min(1f, delta * 18f);
-        blueScale += (targetBlue - blueScale) * k;
-        redScale  += (targetRed  - redScale)  * k;
+        for (int t = 0; t < cardScale.length; t++) {
+            float target = (pressed == t) ? 0.94f : 1f;
+            cardScale[t] += (target - cardScale[t]) * k;
+        }
     }
 
     private void drawHud() {
@@ -322,32 +377,27 @@ public class GameScreen extends ScreenAdapter {
         sr.rect(0, 0, worldW, barH);
         sr.end();
 
-        // ===== Cards =====
-        drawCard(blueCardTex, blueCard, blueScale, world.isBlueUsed(), world.getBlueLevel());
-        drawCard(redCardTex,  redCard,  redScale,  world.isRedUsed(),  world.getRedLevel());
-
-        // ===== XP bars (horizontal, bordered) =====
+        // ===== Cards + XP bars (horizontal, bordered) =====
         float barPadX = 16f;
         float barHgt  = 22f;
         float barPadY = 12f;
 
-        drawXpBarHorizontal(
-                blueCard.x + barPadX,
-                blueCard.y + barPadY,
-                blueCard.width - barPadX * 2f,
-                barHgt,
-                world.getBlueXp(),
-                world.getBlueXpToNext()
-        );
-
-        drawXpBarHorizontal(
-                redCard.x + barPadX,
-                redCard.y + barPadY,
-                redCard.width - barPadX * 2f,
-                barHgt,
-                world.getRedXp(),
-                world.getRedXpToNext()
-        );
+        for (int t = 0; t < cards.length; t++) {
+            PhantomType type = PhantomType.ALL[t];
+            Rectangle card = cards[t];
+
+            drawCard(cardTex[t], card, cardScale[t], !world.canSummon(type), world.getLevel(type));
+            drawActiveCount(card, type);
+
+            drawXpBarHorizontal(
+                    card.x + barPadX,
+                    card.y + barPadY,
+                    card.width - barPadX * 2f,
+                    barHgt,
+                    world.getXp(type),
+                    world.getXpToNext(type)
+            );
+        }
     }
 
 
@@ -373,14 +423,14 @@ public class GameScreen extends ScreenAdapter {
         sr.end();
     }
 
-    private void drawCard(Texture tex, Rectangle area, float scale, boolean used, int level) {
+    private void drawCard(TextureRegion tex, Rectangle area, float scale, boolean used, int level) {
         float pad = 10f;
 
         float availW = area.width - pad * 2f;
         float availH = area.height - pad * 2f;
 
-        float texW = tex.getWidth();
-        float texH = tex.getHeight();
+        float texW = tex.getRegionWidth();
+        float texH = tex.getRegionHeight();
         float aspect = texW / texH;
 
         float h = availH;
@@ -406,6 +456,27 @@ public class GameScreen extends ScreenAdapter {
         batch.end();
     }
 
+    // "2/24" in the card's top-right corner when a type may have several balls in play
+    private void drawActiveCount(Rectangle area, PhantomType type) {
+        int max = world.getSummonScheduler().getMaxActive(type);
+        if (max <= 1) return;
+
+        int t = type.ordinal();
+        int active = world.getActiveCount(type);
+        int queued = world.getSummonScheduler().getQueued(type);
+        if (countText[t] == null || countKey[t * 3] != active || countKey[t * 3 + 1] != max || countKey[t * 3 + 2] != queued) {
+            countKey[t * 3] = active;
+            countKey[t * 3 + 1] = max;
+            countKey[t * 3 + 2] = queued;
+            countText[t] = active + "/" + max + (queued > 0 ? " +" + queued : "");
+        }
+        String text = countText[t];
+
+        batch.begin();
+        font.draw(batch, text, area.x + area.width - 14f, area.y + area.height - 14f, 0f, Align.right, false);
+        batch.end();
+    }
+
     private void drawPauseOverlay() {
         float worldW = viewport.getWorldWidth();
         float worldH = viewport.getWorldHeight();
@@ -424,23 +495,74 @@ public class GameScreen extends ScreenAdapter {
         batch.end();
     }
 
+    private void saveReplay() {
+        writeReplay(world.stopRecording());
+    }
+
+    private void writeReplay(byte[] replay) {
+        if (replay == null) return;
+
+        try {
+            Gdx.files.local(Const.REPLAY_FILE).writeBytes(replay, false);
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("GameScreen", "Could not save replay", e);
+        }
+    }
+
+    @Override
+    public void pause() {
+        // The OS may kill a backgrounded app without dispose(): keep the match so far on disk
+        if (world != null) writeReplay(world.snapshotRecording());
+    }
+
+    @Override
+    public void hide() {
+        // Screens are replaced, never reused: hand the shared textures back right away
+        dispose();
+    }
+
     @Override
     public void dispose() {
-        if (world != null) world.dispose();
+        if (world != null) {
+            saveReplay();
+            world = null;
+        }
+
+        if (perf != null) {
+            perf.dispose();
+            perf = null;
+        }
+
+        if (worldRenderer != null) {
+            worldRenderer.dispose();
+            worldRenderer = null;
+        }
 
         if (fireplaceBg != null) {
             fireplaceBg.dispose();
             fireplaceBg = null;
         }
 
-        if (blueCardTex != null) blueCardTex.dispose();
-        if (redCardTex != null) redCardTex.dispose();
-        if (sr != null) sr.dispose();
-        if (batch != null) batch.dispose();
-        if (font != null) font.dispose();
+        for (int t = 0; t < cardTex.length; t++) {
+            if (cardTex[t] == null) continue;
+            game.getAssets().releaseRegion(CARD_TEXTURES[t]);
+            cardTex[t] = null;
+        }
+        if (sr != null) {
+            sr.dispose();
+            sr = null;
+        }
+        if (batch != null) {
+            batch.dispose();
+            batch = null;
+        }
+        if (font != null) {
+            font.dispose();
+            font = null;
+        }
         if (bgMusic != null) {
             bgMusic.stop();
-            bgMusic.dispose();
+            game.getAssets().release(MUSIC);
             bgMusic = null;
         }
     }
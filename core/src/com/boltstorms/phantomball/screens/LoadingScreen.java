@@ -0,0 +1,117 @@
+package com.boltstorms.phantomball.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.ScreenAdapter;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import com.boltstorms.phantomball.PhantomBallGame;
+import com.boltstorms.phantomball.assets.GameAssets;
+import com.boltstorms.phantomball.util.Const;
+
+/**
+ * Streams the game screen's assets in before showing it: decoding happens on the asset
+ * worker thread, and each frame only spends {@link Const#ASSET_UPLOAD_BUDGET_MS} on uploads.
+ */
+public class LoadingScreen extends ScreenAdapter {
+
+    private final PhantomBallGame game;
+
+    private SpriteBatch batch;
+    private BitmapFont font;
+    private ShapeRenderer sr;
+
+    private OrthographicCamera cam;
+    private Viewport viewport;
+
+    // progress bar shown on screen (eased toward the real value)
+    private float shown = 0f;
+
+    public LoadingScreen(PhantomBallGame game) {
+        this.game = game;
+    }
+
+    @Override
+    public void show() {
+        batch = new SpriteBatch();
+        sr = new ShapeRenderer();
+
+        font = new BitmapFont();
+        font.getData().setScale(1.55f);
+
+        cam = new OrthographicCamera();
+        viewport = new FitViewport(Const.VIRTUAL_W, Const.VIRTUAL_H, cam);
+        viewport.apply(true);
+
+        batch.setProjectionMatrix(cam.combined);
+        sr.setProjectionMatrix(cam.combined);
+
+        GameScreen.preload(game.getAssets());
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        viewport.update(width, height, true);
+        batch.setProjectionMatrix(cam.combined);
+        sr.setProjectionMatrix(cam.combined);
+    }
+
+    @Override
+    public void render(float delta) {
+        GameAssets assets = game.getAssets();
+
+        if (assets.updatePreload(Const.ASSET_UPLOAD_BUDGET_MS)) {
+            // GameScreen.show() acquires its own references before ours are dropped
+            game.setScreen(new GameScreen(game));
+            assets.releasePreloaded();
+            return;
+        }
+
+        float progress = assets.getPreloadProgress();
+        shown += (progress - shown) * Math.min(1f, delta * 10f);
+
+        Gdx.gl.glClearColor(0.03f, 0.03f, 0.05f, 1f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float barW = Const.VIRTUAL_W * 0.7f;
+        float barH = 22f;
+        float x = (Const.VIRTUAL_W - barW) * 0.5f;
+        float y = Const.VIRTUAL_H * 0.45f;
+
+        sr.begin(ShapeRenderer.ShapeType.Filled);
+        sr.setColor(1f, 1f, 1f, 0.12f);
+        sr.rect(x, y, barW, barH);
+        sr.setColor(0.55f, 0.85f, 1f, 1f);
+        sr.rect(x, y, barW * shown, barH);
+        sr.end();
+
+        batch.begin();
+        font.draw(batch, "LOADING " + (int) (progress * 100f) + "%", x, y + barH + 40f);
+        batch.end();
+    }
+
+    @Override
+    public void hide() {
+        dispose();
+    }
+
+    @Override
+    public void dispose() {
+        if (sr != null) {
+            sr.dispose();
+            sr = null;
+        }
+        if (batch != null) {
+            batch.dispose();
+            batch = null;
+        }
+        if (font != null) {
+            font.dispose();
+            font = null;
+        }
+    }
+}
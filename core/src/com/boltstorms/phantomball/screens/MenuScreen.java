@@ -29,6 +29,7 @@ public class MenuScreen extends ScreenAdapter {
     private OrthographicCamera cam;
     private Viewport viewport;
 
+    private static final String LOGO = "PhantomBallLogo.png";
     private Texture logo;
 
     private String playerName = "Player";
@@ -68,8 +69,8 @@ public class MenuScreen extends ScreenAdapter {
         batch.setProjectionMatrix(cam.combined);
         sr.setProjectionMatrix(cam.combined);
 
-        playerName = PlayerProfile.getPlayerName();
-        logo = new Texture(Gdx.files.internal("PhantomBallLogo.png"));
+        playerName = PlayerProfile.local().getPlayerName();
+        logo = game.getAssets().acquireTexture(LOGO);
 
         rebuildLayout();
         initStars();
@@ -132,7 +133,10 @@ public class MenuScreen extends ScreenAdapter {
             viewport.unproject(touch);
 
             if (pressed == 1 && nameRect.contains(touch)) openNameKeyboard();
-            if (pressed == 2 && startRect.contains(touch)) startGame();
+            if (pressed == 2 && startRect.contains(touch)) {
+                startGame();
+                return; // this screen was disposed by hide()
+            }
 
             pressed = 0;
         }
@@ -257,7 +261,7 @@ public class MenuScreen extends ScreenAdapter {
                 if (text == null) return;
                 text = text.trim();
                 playerName = text.isEmpty() ? "Player" : text;
-                PlayerProfile.setPlayerName(playerName);
+                PlayerProfile.local().setPlayerName(playerName);
             }
 
             @Override
@@ -268,15 +272,32 @@ public class MenuScreen extends ScreenAdapter {
     }
 
     private void startGame() {
-        PlayerProfile.setPlayerName(playerName);
-        game.setScreen(new GameScreen(game));
+        PlayerProfile.local().setPlayerName(playerName);
+        game.setScreen(new LoadingScreen(game));
+    }
+
+    @Override
+    public void hide() {
+        dispose();
     }
 
     @Override
     public void dispose() {
-        if (logo != null) logo.dispose();
-        if (sr != null) sr.dispose();
-        if (batch != null) batch.dispose();
-        if (font != null) font.dispose();
+        if (logo != null) {
+            game.getAssets().release(LOGO);
+            logo = null;
+        }
+        if (sr != null) {
+            sr.dispose();
+            sr = null;
+        }
+        if (batch != null) {
+            batch.dispose();
+            batch = null;
+        }
+        if (font != null) {
+            font.dispose();
+            font = null;
+        }
     }
 }
@@ -1,10 +1,7 @@
 package com.boltstorms.phantomball.tools;
 
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
 
 import java.io.InputStream;
 
@@ -12,45 +9,27 @@ public class AndroidGifDecoder implements IGifDecoder {
 
     @Override
     public GifDecoder.GIFAnimation decode(Animation.PlayMode playMode, InputStream is) {
+        // You can still set PlayMode on the Animation later via rebuildAnimation()
+        return decodeFrames(is).upload();
+    }
 
+    @Override
+    public GifDecoder.GIFFrames decodeFrames(InputStream is) {
         LegacyGifDecoder.Result result = LegacyGifDecoder.decodeToFrames(is);
 
-        Array<TextureRegion> frames = new Array<>(result.frames.size);
-        Array<Texture> textures = new Array<>(result.frames.size);
-
-        float total = 0f;
-
-        for (int i = 0; i < result.frames.size; i++) {
-            Pixmap pm = result.frames.get(i);
-
+        FloatArray delays = new FloatArray(result.delays.size);
+        for (int i = 0; i < result.delays.size; i++) {
             // Delay is already in seconds from LegacyGifDecoder, but clamp anyway
             float delay = result.delays.get(i);
-            if (delay <= 0f) delay = 0.1f;
-
-            Texture tex = new Texture(pm);
-
-            // Choose one:
-            // - Nearest avoids halo artifacts when scaling (good for GIF transparency)
-            tex.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-
-            TextureRegion region = new TextureRegion(tex);
-
-            // If your Android GIF shows upside down, uncomment ONE of these approaches:
-            // Approach A: flip region once
-            // region.flip(false, true);
-
-            frames.add(region);
-            textures.add(tex);
-
-            total += delay;
-
-            // In our LegacyGifDecoder we created NEW Pixmaps for each frame, so this is safe:
-            pm.dispose();
+            delays.add(delay <= 0f ? 0.1f : delay);
         }
 
-        float frameDuration = frames.size > 0 ? (total / frames.size) : 0.1f;
+        // In our LegacyGifDecoder we created NEW Pixmaps for each frame, so GIFFrames can own them
+        return new GifDecoder.GIFFrames(result.frames, delays);
+    }
 
-        // You can still set PlayMode on the Animation later via rebuildAnimation()
-        return new GifDecoder.GIFAnimation(frames, textures, frameDuration);
+    @Override
+    public StreamingGifAnimation openStreaming(Animation.PlayMode playMode, InputStream is, int ringSize, boolean indexed) {
+        return new StreamingGifAnimation(GifLoader.openStream(is), playMode, ringSize, indexed);
     }
 }
@@ -0,0 +1,46 @@
+package com.boltstorms.phantomball.tools;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+
+import java.io.InputStream;
+
+/**
+ * The GIF decoder for every platform: pure Java on top of {@link GifStream}, so it needs
+ * neither ImageIO (desktop only) nor the old per-frame-allocating {@link LegacyGifDecoder}.
+ * Each frame costs one LZW pass into reused buffers and one bulk copy into its Pixmap.
+ */
+public class GifCodec implements IGifDecoder {
+
+    @Override
+    public GifDecoder.GIFAnimation decode(Animation.PlayMode playMode, InputStream is) {
+        // You can still set PlayMode on the Animation later via rebuildAnimation()
+        return decodeFrames(is).upload();
+    }
+
+    @Override
+    public GifDecoder.GIFFrames decodeFrames(InputStream is) {
+        GifStream stream = GifLoader.openStream(is);
+
+        int n = stream.getFrameCount();
+        Array<Pixmap> frames = new Array<>(n);
+        FloatArray delays = new FloatArray(n);
+
+        for (int i = 0; i < n; i++) {
+            Pixmap pm = new Pixmap(stream.getWidth(), stream.getHeight(), Pixmap.Format.RGBA8888);
+            stream.nextFrame(pm);
+            frames.add(pm);
+            delays.add(stream.getDelay(i));
+        }
+
+        stream.dispose();
+        return new GifDecoder.GIFFrames(frames, delays);
+    }
+
+    @Override
+    public StreamingGifAnimation openStreaming(Animation.PlayMode playMode, InputStream is, int ringSize, boolean indexed) {
+        return new StreamingGifAnimation(GifLoader.openStream(is), playMode, ringSize, indexed);
+    }
+}
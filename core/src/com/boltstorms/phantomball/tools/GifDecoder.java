@@ -1,9 +1,12 @@
 package com.boltstorms.phantomball.tools;
 
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.FloatArray;
 
 /**
  * Shared types only (safe for Android).
@@ -13,7 +16,7 @@ public final class GifDecoder {
 
     private GifDecoder() {}
 
-    public static class GIFAnimation {
+    public static class GIFAnimation implements Disposable {
         public final Array<TextureRegion> frames;
         public final Array<Texture> textures; // so you can dispose safely
         public final float frameDuration;
@@ -30,10 +33,60 @@ public final class GifDecoder {
             return anim;
         }
 
+        @Override
         public void dispose() {
             for (Texture t : textures) {
                 if (t != null) t.dispose();
             }
         }
     }
+
+    /**
+     * Decoded but not yet uploaded frames. Holds no GL state, so it can be produced on any
+     * thread; {@link #upload()} must run on the render thread.
+     */
+    public static class GIFFrames implements Disposable {
+        public final Array<Pixmap> frames;
+        public final FloatArray delays; // seconds per frame
+
+        public GIFFrames(Array<Pixmap> frames, FloatArray delays) {
+            this.frames = frames;
+            this.delays = delays;
+        }
+
+        public float averageDelay() {
+            if (delays.size == 0) return 0.1f;
+
+            float total = 0f;
+            for (int i = 0; i < delays.size; i++) total += delays.get(i);
+            return total / delays.size;
+        }
+
+        /** Creates one texture per frame and frees the pixmaps. */
+        public GIFAnimation upload() {
+            Array<TextureRegion> regions = new Array<>(frames.size);
+            Array<Texture> textures = new Array<>(frames.size);
+
+            for (Pixmap pm : frames) {
+                Texture tex = new Texture(pm);
+                // Nearest avoids halo artifacts when scaling (good for GIF transparency)
+                tex.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+
+                textures.add(tex);
+                regions.add(new TextureRegion(tex));
+            }
+
+            float frameDuration = averageDelay();
+            dispose();
+            return new GIFAnimation(regions, textures, frameDuration);
+        }
+
+        @Override
+        public void dispose() {
+            for (Pixmap pm : frames) {
+                if (pm != null) pm.dispose();
+            }
+            frames.clear();
+        }
+    }
 }
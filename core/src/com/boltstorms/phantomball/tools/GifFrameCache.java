@@ -0,0 +1,154 @@
+package com.boltstorms.phantomball.tools;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+/**
+ * Composited GIF frames stored raw on disk, so later launches skip LZW decoding.
+ *
+ * One file per GIF, named after the asset path and a hash of the GIF bytes, so an
+ * edited asset never hits an old entry (older entries for the same path are deleted).
+ * Layout: header (magic, version, width, height, frame count), frame delays, then the
+ * RGBA8888 pixels of every frame back to back. Hits are memory-mapped and copied straight
+ * into each Pixmap's buffer. Safe to use off the render thread.
+ */
+public final class GifFrameCache {
+
+    private static final int MAGIC = 0x50424746; // "PBGF"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 5 * 4;
+
+    private final File dir;
+
+    public GifFrameCache(File dir) {
+        this.dir = dir;
+    }
+
+    /** Frames for {@code gif}: from the cache if present, else decoded with {@code decoder} and stored. */
+    public GifDecoder.GIFFrames load(String path, byte[] gif, IGifDecoder decoder) {
+        File file = fileFor(path, gif);
+
+        if (file.isFile()) {
+            try {
+                return read(file);
+            } catch (IOException | RuntimeException e) {
+                // Corrupt or truncated (e.g. killed mid-write): decode again and overwrite
+                file.delete();
+            }
+        }
+
+        GifDecoder.GIFFrames frames = decoder.decodeFrames(new ByteArrayInputStream(gif));
+        try {
+            write(path, file, frames);
+        } catch (IOException e) {
+            // The cache is an optimization only; play the decoded frames anyway
+            file.delete();
+        }
+        return frames;
+    }
+
+    public boolean contains(String path, byte[] gif) {
+        return fileFor(path, gif).isFile();
+    }
+
+    public void clear() {
+        File[] files = dir.listFiles();
+        if (files == null) return;
+        for (File f : files) f.delete();
+    }
+
+    // ===================== FILES =====================
+
+    private File fileFor(String path, byte[] gif) {
+        CRC32 crc = new CRC32();
+        crc.update(gif, 0, gif.length);
+        String hash = Long.toHexString(crc.getValue()) + Integer.toHexString(gif.length);
+        return new File(dir, prefix(path) + hash + ".frames");
+    }
+
+    private static String prefix(String path) {
+        return path.replaceAll("[^A-Za-z0-9._-]", "_") + "-";
+    }
+
+    private GifDecoder.GIFFrames read(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel ch = raf.getChannel()) {
+
+            MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            map.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (map.getInt() != MAGIC || map.getInt() != VERSION) throw new IOException("Not a frame cache file");
+            int w = map.getInt(), h = map.getInt(), n = map.getInt();
+
+            int frameBytes = w * h * 4;
+            if (ch.size() != HEADER_BYTES + 4L * n + (long) frameBytes * n) throw new IOException("Truncated frame cache");
+
+            FloatArray delays = new FloatArray(n);
+            for (int i = 0; i < n; i++) delays.add(map.getFloat());
+
+            Array<Pixmap> frames = new Array<>(n);
+            for (int i = 0; i < n; i++) {
+                Pixmap pm = new Pixmap(w, h, Pixmap.Format.RGBA8888);
+                ByteBuffer dst = pm.getPixels();
+
+                map.limit(map.position() + frameBytes);
+                dst.position(0);
+                dst.put(map);
+                dst.position(0);
+                map.limit(map.capacity());
+
+                frames.add(pm);
+            }
+            return new GifDecoder.GIFFrames(frames, delays);
+        }
+    }
+
+    private void write(String path, File file, GifDecoder.GIFFrames frames) throws IOException {
+        if (!dir.isDirectory() && !dir.mkdirs()) throw new IOException("Cannot create " + dir);
+
+        // Drop entries for older versions of this asset
+        String prefix = prefix(path);
+        File[] old = dir.listFiles();
+        if (old != null) {
+            for (File f : old) if (f.getName().startsWith(prefix)) f.delete();
+        }
+
+        int n = frames.frames.size;
+        Pixmap first = frames.frames.first();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + 4 * n).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(first.getWidth()).putInt(first.getHeight()).putInt(n);
+        for (int i = 0; i < n; i++) header.putFloat(frames.delays.get(i));
+        header.flip();
+
+        // Write to a temp file and rename, so a crash never leaves a half file under the real name
+        File tmp = new File(dir, file.getName() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(tmp);
+             FileChannel ch = out.getChannel()) {
+
+            while (header.hasRemaining()) ch.write(header);
+            for (Pixmap pm : frames.frames) {
+                ByteBuffer px = pm.getPixels().duplicate();
+                px.position(0);
+                while (px.hasRemaining()) ch.write(px);
+            }
+        }
+
+        if (!tmp.renameTo(file)) {
+            tmp.delete();
+            throw new IOException("Cannot rename " + tmp);
+        }
+    }
+}
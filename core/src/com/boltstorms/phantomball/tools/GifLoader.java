@@ -3,7 +3,10 @@ package com.boltstorms.phantomball.tools;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.boltstorms.phantomball.util.Const;
 
+import java.io.IOException;
 import java.io.InputStream;
 
 public final class GifLoader {
@@ -13,6 +16,8 @@ public final class GifLoader {
     /** Set this in DesktopLauncher / AndroidLauncher */
     public static IGifDecoder DECODER;
 
+    private static GifFrameCache frameCache;
+
     public static GifDecoder.GIFAnimation loadGif(String path, Animation.PlayMode playMode) {
         if (DECODER == null) {
             throw new IllegalStateException("GifLoader.DECODER not set! Set it in your launcher.");
@@ -25,4 +30,55 @@ public final class GifLoader {
             throw new RuntimeException("Failed to load GIF: " + path, e);
         }
     }
+
+    public static StreamingGifAnimation loadStreamingGif(String path, Animation.PlayMode playMode, int ringSize, boolean indexed) {
+        if (DECODER == null) {
+            throw new IllegalStateException("GifLoader.DECODER not set! Set it in your launcher.");
+        }
+
+        FileHandle file = Gdx.files.internal(path);
+        try (InputStream is = file.read()) {
+            return DECODER.openStreaming(playMode, is, ringSize, indexed);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to load GIF: " + path, e);
+        }
+    }
+
+    /** Reads the whole (compressed) GIF into memory for {@link GifStream}. */
+    public static GifStream openStream(InputStream is) {
+        try {
+            return new GifStream(StreamUtils.copyStreamToByteArray(is));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read GIF", e);
+        }
+    }
+
+    /**
+     * Thread-safe part of {@link #loadGif}: frames as Pixmaps, nothing uploaded yet.
+     * Goes through the on-disk {@link GifFrameCache} when {@link Const#CACHE_DECODED_GIFS}
+     * is set and local storage is available.
+     */
+    public static GifDecoder.GIFFrames decodeFrames(FileHandle file) {
+        if (DECODER == null) {
+            throw new IllegalStateException("GifLoader.DECODER not set! Set it in your launcher.");
+        }
+
+        try {
+            GifFrameCache cache = frameCache();
+            if (cache != null) return cache.load(file.path(), file.readBytes(), DECODER);
+
+            try (InputStream is = file.read()) {
+                return DECODER.decodeFrames(is);
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to load GIF: " + file.path(), e);
+        }
+    }
+
+    private static synchronized GifFrameCache frameCache() {
+        if (frameCache == null && Const.CACHE_DECODED_GIFS && Gdx.files.isLocalStorageAvailable()) {
+            frameCache = new GifFrameCache(Gdx.files.local(Const.GIF_CACHE_DIR).file());
+        }
+        return frameCache;
+    }
 }
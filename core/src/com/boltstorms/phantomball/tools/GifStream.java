@@ -0,0 +1,517 @@
+package com.boltstorms.phantomball.tools;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Incremental GIF reader over the compressed file bytes (pure Java, no GL, safe for Android).
+ *
+ * The constructor only walks the block structure to index frames and delays; pixels are
+ * decoded one frame at a time by {@link #nextFrame()}, which composites (with disposal)
+ * into a single canvas Pixmap. After the last frame it starts over from frame 0.
+ * Decoding reuses its buffers, so playback does not allocate.
+ *
+ * Compositing works on a plain int[] (RGBA8888) and reaches the Pixmap with one bulk copy
+ * per frame; the per-pixel loops are array reads and writes only.
+ *
+ * After {@link #useIndexed()} the canvas keeps palette indices instead (one byte per pixel,
+ * Pixmap format Alpha) to be colored by {@link #getPalette()} at draw time. That only works
+ * when every frame uses the global color table and one palette slot can stand for
+ * "transparent", see {@link #canIndex()}.
+ */
+public final class GifStream implements Disposable {
+
+    private static final int MAX_CODES = 4096;
+
+    private static final int DISPOSE_BACKGROUND = 2;
+    private static final int DISPOSE_PREVIOUS = 3;
+
+    private final byte[] data;
+
+    private final int width, height;
+    private final int[] globalColors;
+    private final int globalColorCount;
+    private boolean localColorTables = false;
+
+    // Frame index: offset of the image descriptor (0x2C) + graphic control values
+    private final IntArray frameOffsets = new IntArray();
+    private final IntArray frameDisposal = new IntArray();
+    private final IntArray frameTransparent = new IntArray();
+    private final FloatArray frameDelays = new FloatArray();
+    private float duration = 0f;
+
+    // Decode state (reused)
+    private final int[] localColors = new int[256];
+    private final short[] prefix = new short[MAX_CODES];
+    private final byte[] suffix = new byte[MAX_CODES];
+    private final byte[] pixelStack = new byte[MAX_CODES + 1];
+    private byte[] indices = new byte[0];
+    private int[] saved; // canvas before a "restore to previous" frame
+
+    private int[] pixels;
+    private Pixmap canvas;
+    private IntBuffer canvasInts;
+
+    // Indexed mode: one palette index per pixel, clearIndex = the transparent slot
+    private boolean indexed = false;
+    private int clearIndex = -1;
+    private byte[] indexPixels;
+    private byte[] savedIndex;
+    private int indexConflict = -1; // -1 = not scanned yet, else 0/1
+
+    private int next = 0;
+    private int lastDisposal = 0;
+    private int lastX, lastY, lastW, lastH;
+
+    // LZW input cursor (sub-block framed)
+    private int pos;
+    private int blockLeft;
+
+    public GifStream(byte[] data) {
+        this.data = data;
+
+        if (data.length < 13 || data[0] != 'G' || data[1] != 'I' || data[2] != 'F') {
+            throw new IllegalArgumentException("Not a GIF");
+        }
+
+        width = u16(6);
+        height = u16(8);
+        int packed = data[10] & 0xff;
+
+        pos = 13;
+        if ((packed & 0x80) != 0) {
+            globalColorCount = 2 << (packed & 7);
+            globalColors = new int[256];
+            readColors(globalColors, globalColorCount);
+        } else {
+            globalColorCount = 0;
+            globalColors = null;
+        }
+
+        index();
+        if (frameOffsets.size == 0) throw new IllegalArgumentException("GIF has no frames");
+
+        pixels = new int[width * height];
+    }
+
+    // ===================== INDEX =====================
+
+    private void index() {
+        int disposal = 0, transparent = -1;
+        float delay = 0.1f;
+
+        // -2: no transparent frame seen yet, -1: frames disagree
+        int sharedTransparent = -2;
+
+        while (pos < data.length) {
+            int block = data[pos++] & 0xff;
+
+            if (block == 0x21) { // extension
+                int label = data[pos++] & 0xff;
+                if (label == 0xF9 && (data[pos] & 0xff) >= 4) {
+                    int p = data[pos + 1] & 0xff;
+                    disposal = (p >> 2) & 7;
+                    int cs = u16(pos + 2);
+                    // Same convention as browsers: 0/1 centiseconds means "default speed"
+                    delay = cs <= 1 ? 0.1f : cs / 100f;
+                    transparent = (p & 1) != 0 ? (data[pos + 4] & 0xff) : -1;
+                }
+                skipSubBlocks();
+
+            } else if (block == 0x2C) { // image
+                frameOffsets.add(pos - 1);
+                frameDisposal.add(disposal);
+                frameTransparent.add(transparent);
+                frameDelays.add(delay);
+                duration += delay;
+
+                if (transparent >= 0) {
+                    if (sharedTransparent == -2) sharedTransparent = transparent;
+                    else if (sharedTransparent != transparent) sharedTransparent = -1;
+                }
+
+                int packed = data[pos + 8] & 0xff;
+                pos += 9;
+                if ((packed & 0x80) != 0) {
+                    localColorTables = true;
+                    pos += 3 * (2 << (packed & 7));
+                }
+                pos++; // LZW minimum code size
+                skipSubBlocks();
+
+                disposal = 0;
+                transparent = -1;
+                delay = 0.1f;
+
+            } else { // 0x3B trailer, or garbage after the last frame
+                break;
+            }
+        }
+
+        // Transparent slot for indexed mode: a free palette entry, else the one index
+        // every transparent frame uses
+        if (globalColors == null || localColorTables) clearIndex = -1;
+        else if (globalColorCount < 256) clearIndex = globalColorCount;
+        else clearIndex = Math.max(-1, sharedTransparent);
+    }
+
+    private void skipSubBlocks() {
+        int n;
+        while (pos < data.length && (n = data[pos++] & 0xff) != 0) pos += n;
+    }
+
+    // ===================== PLAYBACK =====================
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getFrameCount() { return frameOffsets.size; }
+    public float getDelay(int frame) { return frameDelays.get(frame); }
+    public float getDuration() { return duration; }
+
+    // ===================== INDEXED =====================
+
+    /**
+     * True if indexed mode shows every pixel right. False when frames have their own color
+     * tables, or when a full palette's transparent slot is also drawn opaque by some frame
+     * (found by decoding those frames once, on the first call).
+     */
+    public boolean canIndex() {
+        if (clearIndex < 0) return false;
+        if (indexConflict < 0) indexConflict = scanIndexConflict() ? 1 : 0;
+        return indexConflict == 0;
+    }
+
+    // Only a full palette borrows a used index as the slot, and only frames that are not
+    // transparent at that index can draw it opaque
+    private boolean scanIndexConflict() {
+        if (globalColorCount < 256) return false;
+
+        for (int frame = 0; frame < frameOffsets.size; frame++) {
+            if (frameTransparent.get(frame) == clearIndex) continue;
+
+            pos = frameOffsets.get(frame) + 1;
+            int n = u16(pos + 4) * u16(pos + 6);
+            pos += 9; // no local color table, or clearIndex would be -1
+            if (indices.length < n) indices = new byte[n];
+            decodeLzw(n);
+
+            for (int k = 0; k < n; k++) {
+                if ((indices[k] & 0xff) == clearIndex) return true;
+            }
+        }
+        return false;
+    }
+
+    /** Switches the canvas to palette indices (Pixmap format Alpha). Call before the first frame. */
+    public void useIndexed() {
+        if (!canIndex()) throw new IllegalStateException("GIF frames cannot share one palette");
+        if (canvas != null) throw new IllegalStateException("useIndexed() after the canvas was created");
+
+        indexed = true;
+        pixels = null;
+        indexPixels = new byte[width * height];
+        Arrays.fill(indexPixels, (byte) clearIndex);
+        next = 0;
+    }
+
+    public boolean isIndexed() { return indexed; }
+
+    /** 256 RGBA8888 colors (the global table); the transparent slot has alpha 0. */
+    public Pixmap getPalette() {
+        Pixmap palette = new Pixmap(256, 1, Pixmap.Format.RGBA8888);
+        palette.setBlending(Pixmap.Blending.None);
+
+        IntBuffer dst = palette.getPixels().order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+        dst.put(globalColors, 0, 256);
+        if (clearIndex >= 0) dst.put(clearIndex, 0);
+        dst.position(0);
+        return palette;
+    }
+
+    /** Index of the frame the next {@link #nextFrame()} call will produce. */
+    public int getNextFrame() { return next; }
+
+    /** Canvas holding the last decoded frame (RGBA8888, or Alpha when indexed; owned by this stream). */
+    public Pixmap getCanvas() {
+        if (canvas == null) {
+            canvas = new Pixmap(width, height, indexed ? Pixmap.Format.Alpha : Pixmap.Format.RGBA8888);
+            canvas.setBlending(Pixmap.Blending.None);
+            if (!indexed) canvasInts = canvas.getPixels().order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+            copyTo(canvas);
+        }
+        return canvas;
+    }
+
+    /** Decodes the next frame into the canvas and returns its index. */
+    public int nextFrame() {
+        int frame = decodeNext();
+        if (canvas != null) copyTo(canvas);
+        return frame;
+    }
+
+    /** Like {@link #nextFrame()}, but writes the frame into {@code out} (same size and format) instead. */
+    public int nextFrame(Pixmap out) {
+        int frame = decodeNext();
+        copyTo(out);
+        return frame;
+    }
+
+    private int decodeNext() {
+        int frame = next;
+        if (frame == 0) {
+            clearCanvas();
+            lastDisposal = 0;
+        } else {
+            disposePrevious();
+        }
+
+        decodeFrame(frame);
+        next = (frame + 1) % frameOffsets.size;
+        return frame;
+    }
+
+    private void copyTo(Pixmap out) {
+        if (indexed) {
+            ByteBuffer dst = out.getPixels();
+            dst.position(0);
+            dst.put(indexPixels, 0, width * height);
+            dst.position(0);
+            return;
+        }
+
+        IntBuffer dst = (out == canvas) ? canvasInts : out.getPixels().order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+        dst.position(0);
+        dst.put(pixels, 0, width * height);
+        dst.position(0);
+    }
+
+    public void rewind() {
+        next = 0;
+    }
+
+    private void clearCanvas() {
+        if (indexed) Arrays.fill(indexPixels, (byte) clearIndex);
+        else Arrays.fill(pixels, 0);
+    }
+
+    private void disposePrevious() {
+        if (lastDisposal == DISPOSE_BACKGROUND) {
+            // Background is treated as transparent (what browsers do)
+            for (int y = lastY; y < lastY + lastH; y++) {
+                int row = y * width;
+                if (indexed) Arrays.fill(indexPixels, row + lastX, row + lastX + lastW, (byte) clearIndex);
+                else Arrays.fill(pixels, row + lastX, row + lastX + lastW, 0);
+            }
+        } else if (lastDisposal == DISPOSE_PREVIOUS) {
+            if (indexed && savedIndex != null) System.arraycopy(savedIndex, 0, indexPixels, 0, indexPixels.length);
+            else if (!indexed && saved != null) System.arraycopy(saved, 0, pixels, 0, pixels.length);
+        }
+    }
+
+    private void decodeFrame(int frame) {
+        pos = frameOffsets.get(frame) + 1;
+
+        int fx = u16(pos), fy = u16(pos + 2);
+        int fw = u16(pos + 4), fh = u16(pos + 6);
+        int packed = data[pos + 8] & 0xff;
+        pos += 9;
+
+        int[] colors = globalColors;
+        if ((packed & 0x80) != 0) {
+            colors = localColors;
+            readColors(colors, 2 << (packed & 7));
+        }
+        boolean interlaced = (packed & 0x40) != 0;
+
+        int disposal = frameDisposal.get(frame);
+        if (disposal == DISPOSE_PREVIOUS) {
+            if (indexed) {
+                if (savedIndex == null) savedIndex = new byte[indexPixels.length];
+                System.arraycopy(indexPixels, 0, savedIndex, 0, indexPixels.length);
+            } else {
+                if (saved == null) saved = new int[pixels.length];
+                System.arraycopy(pixels, 0, saved, 0, pixels.length);
+            }
+        }
+
+        int n = fw * fh;
+        if (indices.length < n) indices = new byte[n];
+        decodeLzw(n);
+
+        if (colors != null) composite(colors, frameTransparent.get(frame), fx, fy, fw, fh, interlaced);
+
+        // Clip the disposal rect to the canvas
+        lastDisposal = disposal;
+        lastX = Math.min(fx, width);
+        lastY = Math.min(fy, height);
+        lastW = Math.min(fw, width - lastX);
+        lastH = Math.min(fh, height - lastY);
+    }
+
+    private void composite(int[] colors, int transparent, int fx, int fy, int fw, int fh, boolean interlaced) {
+        int[] dst = pixels;
+        byte[] dstIndex = indexPixels;
+        byte[] src = indices;
+
+        int pass = 0, step = interlaced ? 8 : 1, line = 0;
+        int maxW = Math.min(fw, width - fx);
+
+        for (int r = 0; r < fh; r++) {
+            int y = r;
+            if (interlaced) {
+                // Passes: every 8th row from 0, every 8th from 4, every 4th from 2, every 2nd from 1
+                while (line >= fh) {
+                    pass++;
+                    switch (pass) {
+                        case 1: line = 4; break;
+                        case 2: line = 2; step = 4; break;
+                        default: line = 1; step = 2; break;
+                    }
+                }
+                y = line;
+                line += step;
+            }
+
+            int cy = fy + y;
+            if (cy >= height || maxW <= 0) continue;
+
+            int s = r * fw;
+            int d = cy * width + fx;
+            if (indexed) {
+                for (int x = 0; x < maxW; x++) {
+                    int idx = src[s + x] & 0xff;
+                    if (idx != transparent) dstIndex[d + x] = (byte) idx;
+                }
+            } else {
+                for (int x = 0; x < maxW; x++) {
+                    int idx = src[s + x] & 0xff;
+                    if (idx != transparent) dst[d + x] = colors[idx];
+                }
+            }
+        }
+    }
+
+    // ===================== LZW =====================
+
+    private void decodeLzw(int npix) {
+        byte[] out = indices;
+
+        int dataSize = data[pos++] & 0xff;
+        int clear = 1 << dataSize;
+        int eoi = clear + 1;
+        int available = clear + 2;
+        int oldCode = -1;
+        int codeSize = dataSize + 1;
+        int codeMask = (1 << codeSize) - 1;
+
+        for (int code = 0; code < clear; code++) {
+            prefix[code] = 0;
+            suffix[code] = (byte) code;
+        }
+
+        blockLeft = 0;
+        int datum = 0, bits = 0, first = 0, top = 0, pi = 0;
+
+        while (pi < npix) {
+            if (top == 0) {
+                if (bits < codeSize) {
+                    int b = readDataByte();
+                    if (b < 0) break;
+                    datum |= b << bits;
+                    bits += 8;
+                    continue;
+                }
+
+                int code = datum & codeMask;
+                datum >>= codeSize;
+                bits -= codeSize;
+
+                if (code > available || code == eoi) break;
+                if (code == clear) {
+                    codeSize = dataSize + 1;
+                    codeMask = (1 << codeSize) - 1;
+                    available = clear + 2;
+                    oldCode = -1;
+                    continue;
+                }
+                if (oldCode == -1) {
+                    pixelStack[top++] = suffix[code];
+                    oldCode = code;
+                    first = code;
+                    continue;
+                }
+
+                int inCode = code;
+                if (code == available) {
+                    pixelStack[top++] = (byte) first;
+                    code = oldCode;
+                }
+                while (code > clear) {
+                    pixelStack[top++] = suffix[code];
+                    code = prefix[code];
+                }
+                first = suffix[code] & 0xff;
+                pixelStack[top++] = (byte) first;
+
+                // A full table keeps decoding with the existing codes (deferred clear)
+                if (available < MAX_CODES) {
+                    prefix[available] = (short) oldCode;
+                    suffix[available] = (byte) first;
+                    available++;
+                    if ((available & codeMask) == 0 && available < MAX_CODES) {
+                        codeSize++;
+                        codeMask += available;
+                    }
+                }
+                oldCode = inCode;
+            }
+
+            out[pi++] = pixelStack[--top];
+        }
+
+        // Truncated data: fill the rest with index 0
+        for (int i = pi; i < npix; i++) out[i] = 0;
+    }
+
+    private int readDataByte() {
+        if (blockLeft == 0) {
+            if (pos >= data.length) return -1;
+            blockLeft = data[pos++] & 0xff;
+            if (blockLeft == 0 || pos >= data.length) return -1;
+        }
+        blockLeft--;
+        return data[pos++] & 0xff;
+    }
+
+    // ===================== HELPERS =====================
+
+    private void readColors(int[] out, int count) {
+        for (int i = 0; i < count; i++) {
+            int r = data[pos++] & 0xff;
+            int g = data[pos++] & 0xff;
+            int b = data[pos++] & 0xff;
+            out[i] = (r << 24) | (g << 16) | (b << 8) | 0xff;
+        }
+        for (int i = count; i < out.length; i++) out[i] = 0;
+    }
+
+    private int u16(int at) {
+        return (data[at] & 0xff) | ((data[at + 1] & 0xff) << 8);
+    }
+
+    @Override
+    public void dispose() {
+        if (canvas != null) {
+            canvas.dispose();
+            canvas = null;
+            canvasInts = null;
+        }
+    }
+}
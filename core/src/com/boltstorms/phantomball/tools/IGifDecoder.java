@@ -6,4 +6,13 @@ import java.io.InputStream;
 
 public interface IGifDecoder {
     GifDecoder.GIFAnimation decode(Animation.PlayMode playMode, InputStream is);
+
+    /** Decode only (no GL calls), so asset loading can run this off the render thread. */
+    GifDecoder.GIFFrames decodeFrames(InputStream is);
+
+    /**
+     * Keeps the compressed bytes and decodes into a ring of {@code ringSize} textures while playing;
+     * {@code indexed} stores palette indices instead of RGBA where the GIF allows it.
+     */
+    StreamingGifAnimation openStreaming(Animation.PlayMode playMode, InputStream is, int ringSize, boolean indexed);
 }
@@ -0,0 +1,51 @@
+package com.boltstorms.phantomball.tools;
+
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * SpriteBatch shader for palette-indexed frames: the bound texture holds palette indices
+ * in its alpha channel (Pixmap format Alpha) and u_palette is a 256x1 RGBA lookup.
+ */
+public final class PaletteShader {
+
+    private PaletteShader() {}
+
+    /** Texture unit the palette is bound to while drawing. */
+    public static final int PALETTE_UNIT = 1;
+
+    private static final String VERTEX =
+            "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+            + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+            + "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+            + "uniform mat4 u_projTrans;\n"
+            + "varying vec4 v_color;\n"
+            + "varying vec2 v_texCoords;\n"
+            + "void main() {\n"
+            + "    v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+            + "    v_color.a = v_color.a * (255.0/254.0);\n"
+            + "    v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+            + "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+            + "}\n";
+
+    private static final String FRAGMENT =
+            "#ifdef GL_ES\n"
+            + "precision mediump float;\n"
+            + "#endif\n"
+            + "varying vec4 v_color;\n"
+            + "varying vec2 v_texCoords;\n"
+            + "uniform sampler2D u_texture;\n"
+            + "uniform sampler2D u_palette;\n"
+            + "void main() {\n"
+            + "    float index = texture2D(u_texture, v_texCoords).a;\n"
+            + "    gl_FragColor = v_color * texture2D(u_palette, vec2((index * 255.0 + 0.5) / 256.0, 0.5));\n"
+            + "}\n";
+
+    public static ShaderProgram create() {
+        ShaderProgram shader = new ShaderProgram(VERTEX, FRAGMENT);
+        if (!shader.isCompiled()) {
+            throw new GdxRuntimeException("Palette shader failed to compile: " + shader.getLog());
+        }
+        return shader;
+    }
+}
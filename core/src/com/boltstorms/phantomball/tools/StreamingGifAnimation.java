@@ -0,0 +1,154 @@
+package com.boltstorms.phantomball.tools;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * GIF playback from the compressed bytes through a small ring of canvas-sized textures.
+ *
+ * Frames are decoded by a {@link GifStream} just ahead of playback (at most one per
+ * update) and written into the next free ring slot with a sub-image upload, so GPU memory
+ * is ringSize frames no matter how long the GIF is. Uses the GIF's own per-frame delays.
+ * Supports LOOP and NORMAL play modes. Render thread only.
+ *
+ * Indexed mode keeps one byte per pixel (palette indices) in the ring plus a 256x1
+ * palette texture, a quarter of the memory and upload size; draw it with {@link #draw}
+ * and a {@link PaletteShader}. GIFs that can't share one palette fall back to RGBA.
+ */
+public class StreamingGifAnimation implements Disposable {
+
+    private final GifStream stream;
+    private final boolean loop;
+
+    private final Texture[] ring;
+    private final TextureRegion[] regions;
+    private final int[] slotFrame;
+    private final Texture palette; // null unless indexed
+
+    private int head = 0;   // slot shown now
+    private int ready = 0;  // decoded slots starting at head (including it)
+    private boolean decodedLast = false;
+
+    private float time = 0f;
+    private boolean finished = false;
+
+    public StreamingGifAnimation(GifStream stream, Animation.PlayMode playMode, int ringSize) {
+        this(stream, playMode, ringSize, false);
+    }
+
+    public StreamingGifAnimation(GifStream stream, Animation.PlayMode playMode, int ringSize, boolean indexed) {
+        this.stream = stream;
+        this.loop = playMode == Animation.PlayMode.LOOP;
+
+        if (indexed && stream.canIndex()) {
+            stream.useIndexed();
+            Pixmap pm = stream.getPalette();
+            palette = new Texture(pm);
+            palette.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+            pm.dispose();
+        } else {
+            palette = null;
+        }
+        Pixmap.Format format = stream.isIndexed() ? Pixmap.Format.Alpha : Pixmap.Format.RGBA8888;
+
+        int n = Math.max(2, Math.min(ringSize, stream.getFrameCount()));
+        ring = new Texture[n];
+        regions = new TextureRegion[n];
+        slotFrame = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            // Indices must never be filtered, so indexed mode needs Nearest as well
+            ring[i] = new Texture(stream.getWidth(), stream.getHeight(), format);
+            ring[i].setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+            regions[i] = new TextureRegion(ring[i]);
+        }
+
+        decodeAhead();
+    }
+
+    public void update(float dt) {
+        if (finished) return;
+        time += dt;
+
+        // Bounded catch-up: after a long hitch just resume from the current frame
+        for (int skipped = 0; time >= stream.getDelay(slotFrame[head]); skipped++) {
+            if (skipped == ring.length) {
+                time = 0f;
+                break;
+            }
+            if (!loop && slotFrame[head] == stream.getFrameCount() - 1) {
+                finished = true;
+                return;
+            }
+            if (ready <= 1) decodeAhead();
+
+            time -= stream.getDelay(slotFrame[head]);
+            head = (head + 1) % ring.length;
+            ready--;
+        }
+
+        if (ready < ring.length) decodeAhead();
+    }
+
+    private void decodeAhead() {
+        if (decodedLast && !loop) return;
+
+        int slot = (head + ready) % ring.length;
+        int frame = stream.nextFrame();
+        if (palette != null) Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+        ring[slot].draw(stream.getCanvas(), 0, 0);
+
+        slotFrame[slot] = frame;
+        ready++;
+        if (frame == stream.getFrameCount() - 1) decodedLast = true;
+    }
+
+    public TextureRegion getKeyFrame() {
+        return regions[head];
+    }
+
+    /**
+     * Draws the current frame; indexed frames go through {@code paletteShader} (from
+     * {@link PaletteShader#create()}). Call between batch.begin() and end() with the default shader.
+     */
+    public void draw(SpriteBatch batch, ShaderProgram paletteShader, float x, float y, float w, float h) {
+        if (palette == null) {
+            batch.draw(regions[head], x, y, w, h);
+            return;
+        }
+
+        batch.setShader(paletteShader);
+        palette.bind(PaletteShader.PALETTE_UNIT);
+        Gdx.gl.glActiveTexture(GL20.GL_TEXTURE0);
+        paletteShader.setUniformi("u_palette", PaletteShader.PALETTE_UNIT);
+
+        batch.draw(regions[head], x, y, w, h);
+        batch.setShader(null);
+    }
+
+    public boolean isIndexed() { return palette != null; }
+
+    public boolean isAnimationFinished() {
+        return finished;
+    }
+
+    public int getFrameIndex() { return slotFrame[head]; }
+    public int getFrameCount() { return stream.getFrameCount(); }
+    public float getFrameDelay(int frame) { return stream.getDelay(frame); }
+    public float getDuration() { return stream.getDuration(); }
+    public int getRingSize() { return ring.length; }
+
+    @Override
+    public void dispose() {
+        for (Texture t : ring) t.dispose();
+        if (palette != null) palette.dispose();
+        stream.dispose();
+    }
+}
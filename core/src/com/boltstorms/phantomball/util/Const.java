@@ -7,6 +7,19 @@ public final class Const {
     // ===================== DEBUG =====================
     public static final boolean DEBUG_DRAW = true;
 
+    // Every match is recorded; the last one is kept here (Gdx.files.local) for bug reports
+    public static final boolean RECORD_REPLAYS = true;
+    public static final String REPLAY_FILE = "replays/last.pbr";
+
+    // Frame profiler overlay in GameScreen at start (toggle: F3)
+    public static final boolean PERF_OVERLAY = false;
+    // Debug builds on phones: tapping the score area also toggles it (it eats taps on spirits there)
+    public static final boolean PERF_TAP_TOGGLE = false;
+
+    // Gameplay event log (util.EventLog); false compiles every call site out
+    public static final boolean EVENT_LOG = true;
+    public static final int EVENT_LOG_LEVEL = 1; // EventLog.DEBUG = everything, INFO = no HP ticks, OFF
+
     // ===================== GLOBAL SIZE =====================
     // Master size control (scales EVERYTHING proportionally)
     public static final float BALL_SIZE_SCALE = 0.64f;
@@ -31,6 +44,38 @@ public final class Const {
     // ===================== TIMING =====================
     public static final float DRIFT_NUDGE_TIME = 1.5f;
 
+    // Fixed simulation rate; rendering interpolates between ticks
+    public static final float SIM_TICK_HZ = 120f;
+
+    // Cap on catch-up ticks per frame (a longer hitch just slows the game)
+    public static final int SIM_MAX_STEPS_PER_FRAME = 10;
+
+    // Spirit update is split into chunks of this size; at or above the threshold
+    // the chunks run on a fork-join pool (below it the scheduling costs more than it saves)
+    public static final int SPIRIT_CHUNK_SIZE = 512;
+    public static final int PARALLEL_SPIRIT_THRESHOLD = 2048;
+
+    // Spirits push apart and bounce off each other every N ticks (1 = every tick, 0 = off;
+    // low-end tiers can use 2-3), with this restitution (1 = fully elastic)
+    public static final int SPIRIT_COLLIDE_EVERY = 1;
+    public static final float SPIRIT_RESTITUTION = 1f;
+
+    // Render-thread time per frame for GL uploads while the loading screen is up (ms)
+    public static final int ASSET_UPLOAD_BUDGET_MS = 8;
+
+    // Play background GIFs from their compressed bytes through a small texture ring
+    // instead of keeping every frame as a texture (saves GPU memory on phones)
+    public static final boolean STREAM_BACKGROUND_GIFS = true;
+
+    // Streamed GIFs keep 1-byte palette indices on the GPU and color them in a shader
+    public static final boolean INDEXED_BACKGROUND_GIFS = true;
+
+    // Fully decoded GIFs are cached as raw frames in local storage after the first launch.
+    // Only the non-streaming path decodes fully, so this does nothing while
+    // STREAM_BACKGROUND_GIFS is on; turn both over together (costs disk, saves LZW time)
+    public static final boolean CACHE_DECODED_GIFS = false;
+    public static final String GIF_CACHE_DIR = "gifcache";
+
     // ===================== BALL / SPIRIT HEALTH & SIZE =====================
     public static final float BALL_START_RADIUS = 16f;
     public static final float BALL_MIN_RADIUS   = 8f;
@@ -49,10 +94,40 @@ public final class Const {
     public static final float BALL_DAMAGE_RATE = 55f; // you lose HP/sec
     public static final float SPIRIT_GROWTH_RATE = 25f; // spirit gains HP/sec
 
+    // ===================== SUMMONING =====================
+    // Per type: balls in play at once, seconds between summons, and taps held while
+    // either blocks. Classic = 1 / 0 / 0; the competitive variant uses e.g. 24 / 0.5 / 3
+    // (WorldController.setSummonRules)
+    public static final int BALLS_PER_TYPE = 1;
+    public static final float SUMMON_COOLDOWN = 0f;
+    public static final int SUMMON_QUEUE = 0;
+
     // ===================== SPAWN / MISC =====================
     public static final float PROP_HIT_SHRINK = 4.0f;
 
-    // Spirit spawn level range
+    // Allocated when a world is created, so summons and waves up to this size never allocate
+    public static final int BALL_POOL_PREWARM = 4;
+    public static final int SPIRIT_PREWARM = 256;
+
+    // Spawn spots keep this much room from balls / other spirits (SpawnPlacer); random
+    // spots tried when the arena is too full for that
+    public static final float SPAWN_BALL_CLEARANCE = 40f;
+    public static final float SPAWN_SPIRIT_CLEARANCE = 6f;
+    public static final int SPAWN_PLACE_ATTEMPTS = 8;
+
+    // Spirit spawn level range (waves set their own)
     public static final int SPIRIT_MIN_LV = 1;
     public static final int SPIRIT_MAX_LV = 1;
+
+    // ===================== WAVES =====================
+    // Timed waves (data/waves.json) in GameScreen; off = the classic fixed spirit count
+    public static final boolean WAVES = false;
+
+    // Waves never take the live spirit count past this (extra spirits are dropped)
+    public static final int WAVE_MAX_SPIRITS = 4000;
+
+    // Wave spawning runs in slices of WAVE_SPAWN_SLICE spirits until WAVE_SPAWN_BUDGET_MS
+    // of a frame is used (at least one slice per frame)
+    public static final float WAVE_SPAWN_BUDGET_MS = 1.0f;
+    public static final int WAVE_SPAWN_SLICE = 16;
 }
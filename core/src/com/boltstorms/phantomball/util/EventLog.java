@@ -0,0 +1,172 @@
+package com.boltstorms.phantomball.util;
+
+import com.boltstorms.phantomball.gameplay.PhantomType;
+import com.boltstorms.phantomball.gameplay.stats.BallStats;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Leveled gameplay event log that never allocates on the calling thread.
+ *
+ * Events are primitive records (kind, type, HP, radius and the ball's stats) written into a
+ * preallocated ring; a daemon thread formats and prints them. If the ring is full the event
+ * is dropped and counted. Single producer: log from the sim thread only.
+ *
+ * Guard call sites with {@code if (EventLog.ENABLED)}; with {@link Const#EVENT_LOG} off the
+ * compiler removes them entirely.
+ */
+public final class EventLog {
+
+    private EventLog() {}
+
+    public static final boolean ENABLED = Const.EVENT_LOG;
+
+    // ===================== LEVELS / KINDS =====================
+
+    public static final int DEBUG = 0;
+    public static final int INFO = 1;
+    public static final int OFF = 2;
+
+    // Starts at Const.EVENT_LOG_LEVEL; tools running many worlds on many threads set OFF
+    private static volatile int minLevel = Const.EVENT_LOG_LEVEL;
+
+    // Ball events
+    public static final int SPAWN = 0;
+    public static final int RESET = 1;
+    public static final int LEVEL_UP = 2;
+    public static final int DAMAGE = 3;
+    public static final int HEAL = 4;
+
+    private static final String[] KIND_NAMES = {"SPAWN", "RESET", "LEVEL UP", "HP DMG", "HP HEAL"};
+    private static final int[] KIND_LEVELS = {INFO, INFO, INFO, DEBUG, DEBUG};
+
+    private static final PhantomType[] TYPES = PhantomType.ALL;
+
+    // ===================== RING =====================
+
+    private static final int CAPACITY = 1 << 12;
+    private static final int MASK = CAPACITY - 1;
+
+    private static final int[] kind = new int[CAPACITY];
+    private static final int[] type = new int[CAPACITY];
+    private static final int[] level = new int[CAPACITY];
+    private static final float[] hp = new float[CAPACITY];
+    private static final float[] radius = new float[CAPACITY];
+
+    // Copied from the ball's stats: each world has its own progression, so the level alone
+    // does not say what they were
+    private static final float[] maxHp = new float[CAPACITY];
+    private static final float[] attack = new float[CAPACITY];
+    private static final float[] resistance = new float[CAPACITY];
+    private static final float[] speed = new float[CAPACITY];
+    private static final float[] minRadius = new float[CAPACITY];
+    private static final float[] maxRadius = new float[CAPACITY];
+    private static final int[] xpToNext = new int[CAPACITY];
+
+    // head: next slot to write (producer), tail: next slot to print (drainer)
+    private static volatile long head = 0;
+    private static volatile long tail = 0;
+    private static volatile int dropped = 0;
+
+    private static Thread drainer;
+
+    public static void setLevel(int level) { minLevel = level; }
+    public static int getLevel() { return minLevel; }
+
+    public static void log(int eventKind, PhantomType t, BallStats st, float ballHp, float ballRadius) {
+        if (!ENABLED || KIND_LEVELS[eventKind] < minLevel) return;
+        if (drainer == null) startDrainer();
+
+        long h = head;
+        if (h - tail >= CAPACITY) {
+            dropped++;
+            return;
+        }
+
+        int i = (int) (h & MASK);
+        kind[i] = eventKind;
+        type[i] = t.ordinal();
+        level[i] = st.level;
+        hp[i] = ballHp;
+        radius[i] = ballRadius;
+        maxHp[i] = st.maxHp;
+        attack[i] = st.attack;
+        resistance[i] = st.resistance;
+        speed[i] = st.speed;
+        minRadius[i] = st.minRadius;
+        maxRadius[i] = st.maxRadius;
+        xpToNext[i] = st.xpToNext;
+
+        head = h + 1; // publish (volatile write after the record)
+    }
+
+    // ===================== DRAIN =====================
+
+    private static synchronized void startDrainer() {
+        if (drainer != null) return;
+
+        drainer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                StringBuilder sb = new StringBuilder(128);
+                int reportedDrops = 0;
+
+                while (true) {
+                    long h = head;
+                    for (long t = tail; t < h; t++) {
+                        format(sb, (int) (t & MASK));
+                        System.out.println(sb);
+                        tail = t + 1;
+                    }
+
+                    int d = dropped;
+                    if (d != reportedDrops) {
+                        System.out.println("[EventLog] dropped " + (d - reportedDrops) + " events");
+                        reportedDrops = d;
+                    }
+
+                    LockSupport.parkNanos(20_000_000L);
+                }
+            }
+        }, "EventLog");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    private static void format(StringBuilder sb, int i) {
+        sb.setLength(0);
+        sb.append('[').append(KIND_NAMES[kind[i]]).append("] ")
+                .append(TYPES[type[i]]).append(" LV ").append(level[i]).append(" HP ");
+
+        if (kind[i] == DAMAGE || kind[i] == HEAL) {
+            append(sb, hp[i], 2).append('/');
+            append(sb, maxHp[i], 2).append(" (R=");
+            append(sb, radius[i], 1).append(')');
+            return;
+        }
+
+        append(sb, hp[i], 1).append('/');
+        append(sb, maxHp[i], 1);
+        sb.append(" ATK ");
+        append(sb, attack[i], 1).append(" RES ");
+        append(sb, resistance[i], 2).append(" SPD ");
+        append(sb, speed[i], 1).append(" minR ");
+        append(sb, minRadius[i], 1).append(" maxR ");
+        append(sb, maxRadius[i], 1).append(" xpNext ").append(xpToNext[i]);
+    }
+
+    // Fixed decimals without String.format
+    private static StringBuilder append(StringBuilder sb, float v, int decimals) {
+        if (v < 0f) {
+            sb.append('-');
+            v = -v;
+        }
+        int scale = decimals == 1 ? 10 : 100;
+        long fixed = Math.round(v * (double) scale);
+        sb.append(fixed / scale).append('.');
+
+        long frac = fixed % scale;
+        if (decimals == 2 && frac < 10) sb.append('0');
+        return sb.append(frac);
+    }
+}
@@ -0,0 +1,46 @@
+package com.boltstorms.phantomball.util;
+
+/**
+ * Accumulator for a fixed-rate simulation driven by variable frame deltas.
+ *
+ * advance(frameDelta) returns how many fixed steps to run this frame. Time beyond
+ * maxSteps is dropped so a long hitch slows the game down instead of snowballing.
+ * getAlpha() is how far the leftover time reaches into the next step, for interpolation.
+ */
+public final class FixedTimestep {
+
+    private float tickHz;
+    private float step;
+    private final int maxSteps;
+    private float accumulator = 0f;
+
+    public FixedTimestep(float tickHz, int maxSteps) {
+        this.maxSteps = Math.max(1, maxSteps);
+        setTickRate(tickHz);
+    }
+
+    public void setTickRate(float tickHz) {
+        this.tickHz = Math.max(1f, tickHz);
+        step = 1f / this.tickHz;
+        if (accumulator > step) accumulator = 0f;
+    }
+
+    public int advance(float frameDelta) {
+        accumulator += Math.max(0f, frameDelta);
+
+        int steps = (int) (accumulator / step);
+        if (steps > maxSteps) {
+            steps = maxSteps;
+            accumulator = 0f;
+        } else {
+            accumulator -= steps * step;
+        }
+        return steps;
+    }
+
+    public void reset() { accumulator = 0f; }
+
+    public float getStep() { return step; }
+    public float getTickRate() { return tickHz; }
+    public float getAlpha() { return Math.min(1f, accumulator / step); }
+}
@@ -1,43 +1,56 @@
 package com.boltstorms.phantomball.util;
 
+import com.boltstorms.phantomball.gameplay.PhantomType;
+
+/**
+ * Player name and ball levels (one per {@link PhantomType}). The game uses the single
+ * {@link #local()} profile; headless tools give every WorldController its own so worlds can
+ * run side by side.
+ */
 public final class PlayerProfile {
 
-    private static String playerName = "Player";
+    private static final PlayerProfile LOCAL = new PlayerProfile();
+
+    private String playerName = "Player";
 
-    private static int blueLevel = 1;
-    private static int redLevel  = 1;
+    // Ball level per PhantomType ordinal
+    private final int[] levels = new int[PhantomType.COUNT];
 
-    private PlayerProfile() {}
+    public PlayerProfile() {
+        for (int t = 0; t < levels.length; t++) levels[t] = 1;
+    }
+
+    /** Starting levels by PhantomType ordinal; missing entries start at 1. */
+    public PlayerProfile(int[] levels) {
+        this();
+        for (int t = 0; t < Math.min(levels.length, this.levels.length); t++) {
+            this.levels[t] = Math.max(1, levels[t]);
+        }
+    }
 
-    public static void setPlayerName(String name) {
+    /** The profile of the person playing on this device. */
+    public static PlayerProfile local() { return LOCAL; }
+
+    public void setPlayerName(String name) {
         if (name == null) return;
         name = name.trim();
         playerName = name.isEmpty() ? "Player" : name;
     }
 
-    public static String getPlayerName() {
+    public String getPlayerName() {
         return playerName;
     }
 
-    public static int getBlueLevel() { return blueLevel; }
-    public static int getRedLevel()  { return redLevel;  }
-
-    public static void setBlueLevel(int level) {
-        blueLevel = Math.max(1, level);
-    }
+    public int getLevel(PhantomType type) { return levels[type.ordinal()]; }
 
-    public static void setRedLevel(int level) {
-        redLevel = Math.max(1, level);
+    public void setLevel(PhantomType type, int level) {
+        levels[type.ordinal()] = Math.max(1, level);
     }
 
-    // NEW: simple level-up helpers
-    public static int levelUpBlue() {
-        blueLevel++;
-        return blueLevel;
+    public int levelUp(PhantomType type) {
+        return ++levels[type.ordinal()];
     }
 
-    public static int levelUpRed() {
-        redLevel++;
-        return redLevel;
-    }
+    /** Copy of all levels by PhantomType ordinal. */
+    public int[] getLevels() { return levels.clone(); }
 }
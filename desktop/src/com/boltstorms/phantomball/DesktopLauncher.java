@@ -2,14 +2,14 @@ package com.boltstorms.phantomball;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
-import com.boltstorms.phantomball.tools.DesktopGifDecoder;
+import com.boltstorms.phantomball.tools.GifCodec;
 import com.boltstorms.phantomball.tools.GifLoader;
 
 public class DesktopLauncher {
 	public static void main(String[] arg) {
 
-		// ✅ Desktop uses the ImageIO/AWT decoder (desktop module only)
-		GifLoader.DECODER = new DesktopGifDecoder();
+		// ✅ Same pure-Java GIF codec as Android (DesktopGifDecoder/ImageIO is kept for comparison)
+		GifLoader.DECODER = new GifCodec();
 
 		Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
 		config.setForegroundFPS(60);
@@ -2,10 +2,9 @@ package com.boltstorms.phantomball.tools;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
 
 import javax.imageio.ImageIO;
 import javax.imageio.ImageReader;
@@ -27,35 +26,35 @@ public class DesktopGifDecoder implements IGifDecoder {
 
     @Override
     public GifDecoder.GIFAnimation decode(Animation.PlayMode playMode, InputStream is) {
+        return decodeFrames(is).upload();
+    }
+
+    @Override
+    public GifDecoder.GIFFrames decodeFrames(InputStream is) {
         try {
             List<Frame> decoded = readGifWithDisposal(is);
 
-            Array<TextureRegion> regions = new Array<>();
-            Array<Texture> textures = new Array<>();
-            float totalDelay = 0f;
+            Array<Pixmap> pixmaps = new Array<>(decoded.size());
+            FloatArray delays = new FloatArray(decoded.size());
 
             for (Frame f : decoded) {
-                Pixmap pm = bufferedImageToPixmap(f.canvasSnapshot);
-
-                Texture tex = new Texture(pm);
-                tex.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-
-                textures.add(tex);
-                regions.add(new TextureRegion(tex));
-
-                totalDelay += f.delaySeconds;
-
-                pm.dispose();
+                pixmaps.add(bufferedImageToPixmap(f.canvasSnapshot));
+                delays.add(f.delaySeconds);
             }
 
-            float frameDuration = decoded.size() > 0 ? totalDelay / decoded.size() : 0.1f;
-            return new GifDecoder.GIFAnimation(regions, textures, frameDuration);
+            return new GifDecoder.GIFFrames(pixmaps, delays);
 
         } catch (Exception e) {
             throw new RuntimeException("Failed to decode GIF (desktop)", e);
         }
     }
 
+    @Override
+    public StreamingGifAnimation openStreaming(Animation.PlayMode playMode, InputStream is, int ringSize, boolean indexed) {
+        // ImageIO cannot seek frame by frame cheaply; the pure-Java stream works on desktop too
+        return new StreamingGifAnimation(GifLoader.openStream(is), playMode, ringSize, indexed);
+    }
+
     // -------------------- compositing / disposal --------------------
 
     private static class Frame {
@@ -0,0 +1,231 @@
+package com.boltstorms.phantomball.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.boltstorms.phantomball.gameplay.PhantomType;
+import com.boltstorms.phantomball.gameplay.SimTuning;
+import com.boltstorms.phantomball.gameplay.WorldController;
+import com.boltstorms.phantomball.util.Const;
+import com.boltstorms.phantomball.util.EventLog;
+import com.boltstorms.phantomball.util.PlayerProfile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Monte Carlo balancing: plays many independent matches on all cores with a scripted
+ * summon policy (summon as soon as a card is free, after an optional cooldown) and prints
+ * the distributions of final score, time to the first level-up and ball survival time.
+ * Matches use the classic summon rules (one ball per type), so survival is per ball.
+ *
+ * Every match owns its world, profile and RNG and shares only the read-only tuning, so
+ * threads never contend. Match i uses seed + i and can be re-run on its own.
+ *
+ * Args (key=value, all optional): matches=10000 seconds=180 threads=cores seed=1
+ * cooldown=0 spirits=10 drain=55 grow=25 damage=55 spiritGrow=25 xp=0.1
+ */
+public class BalanceSimulator {
+
+    public static void main(String[] args) {
+        ObjectMap<String, String> opts = new ObjectMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq > 0) opts.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1;
+
+        new HeadlessApplication(new Run(opts), config);
+    }
+
+    private static final class Run extends ApplicationAdapter {
+
+        private final ObjectMap<String, String> opts;
+
+        Run(ObjectMap<String, String> opts) {
+            this.opts = opts;
+        }
+
+        @Override
+        public void create() {
+            // Tuning is built after Gdx is up, so the progression data file is used
+            SimTuning tuning = new SimTuning();
+            tuning.propDrainRate = f("drain", tuning.propDrainRate);
+            tuning.ballGrowRate = f("grow", tuning.ballGrowRate);
+            tuning.ballDamageRate = f("damage", tuning.ballDamageRate);
+            tuning.spiritGrowthRate = f("spiritGrow", tuning.spiritGrowthRate);
+            tuning.xpPerDamage = f("xp", tuning.xpPerDamage);
+
+            Settings s = new Settings();
+            s.matches = (int) f("matches", 10000);
+            s.seconds = f("seconds", 180);
+            s.cooldown = f("cooldown", 0);
+            s.spirits = (int) f("spirits", 10);
+            s.seed = (long) f("seed", 1);
+            int threads = (int) f("threads", Runtime.getRuntime().availableProcessors());
+
+            // The event log has one producer; worlds on many threads must not log
+            EventLog.setLevel(EventLog.OFF);
+
+            try {
+                simulate(tuning, s, threads);
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+            Gdx.app.exit();
+        }
+
+        private float f(String key, float def) {
+            String v = opts.get(key);
+            return v == null ? def : Float.parseFloat(v);
+        }
+    }
+
+    private static final class Settings {
+        int matches, spirits;
+        float seconds, cooldown;
+        long seed;
+    }
+
+    /** Per-thread results, merged once at the end. Per-type samples are indexed by ordinal. */
+    private static final class Results {
+        final FloatArray score = new FloatArray();
+        final FloatArray[] levelUp = arrays();
+        final FloatArray[] survival = arrays();
+        final FloatArray[] level = arrays();
+        long ticks;
+
+        void addAll(Results o) {
+            score.addAll(o.score);
+            for (int t = 0; t < PhantomType.COUNT; t++) {
+                levelUp[t].addAll(o.levelUp[t]);
+                survival[t].addAll(o.survival[t]);
+                level[t].addAll(o.level[t]);
+            }
+            ticks += o.ticks;
+        }
+
+        private static FloatArray[] arrays() {
+            FloatArray[] out = new FloatArray[PhantomType.COUNT];
+            for (int t = 0; t < out.length; t++) out[t] = new FloatArray();
+            return out;
+        }
+    }
+
+    private static void simulate(final SimTuning tuning, final Settings s, int threads) throws Exception {
+        final AtomicInteger next = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<Results>> futures = new ArrayList<>();
+
+        long t0 = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                Results out = new Results();
+                for (int m = next.getAndIncrement(); m < s.matches; m = next.getAndIncrement()) {
+                    playMatch(s.seed + m, tuning, s, out);
+                }
+                return out;
+            }));
+        }
+
+        Results all = new Results();
+        for (Future<Results> f : futures) all.addAll(f.get());
+        pool.shutdown();
+        double seconds = (System.nanoTime() - t0) / 1e9;
+
+        System.out.printf("%d matches x %.0f s on %d threads: %.1f s wall, %.0f ticks/s%n",
+                s.matches, s.seconds, threads, seconds, all.ticks / seconds);
+        System.out.printf("drain %.1f  grow %.1f  damage %.1f  spiritGrow %.1f  xp %.3f  cooldown %.1f s  spirits %d%n",
+                tuning.propDrainRate, tuning.ballGrowRate, tuning.ballDamageRate, tuning.spiritGrowthRate,
+                tuning.xpPerDamage, s.cooldown, s.spirits);
+
+        System.out.println();
+        System.out.println("metric                 n        mean      p10      p50      p90      max");
+        print("score", all.score);
+        for (PhantomType type : PhantomType.ALL) {
+            String name = type.name().toLowerCase();
+            print(name + " 1st level-up s", all.levelUp[type.ordinal()]);
+            print(name + " survival s", all.survival[type.ordinal()]);
+            print("final " + name + " level", all.level[type.ordinal()]);
+        }
+    }
+
+    private static void playMatch(long seed, SimTuning tuning, Settings s, Results out) {
+        WorldController world = new WorldController(seed, new PlayerProfile(), tuning);
+        world.setParallelThreshold(Integer.MAX_VALUE); // one core per match
+        world.resize((int) Const.VIRTUAL_W, (int) (Const.VIRTUAL_H - 170f));
+        if (s.spirits > world.getSpiritCount()) world.spawnSpirits(s.spirits - world.getSpiritCount());
+
+        float hz = world.getTickRate();
+        long ticks = (long) (s.seconds * hz);
+        long cooldownTicks = (long) (s.cooldown * hz);
+
+        int types = PhantomType.COUNT;
+        long[] ready = new long[types];
+        long[] spawn = new long[types];
+        long[] levelUp = new long[types];
+        Arrays.fill(spawn, -1L);
+        Arrays.fill(levelUp, -1L);
+        PlayerProfile profile = world.getProfile();
+
+        for (long t = 0; t < ticks; t++) {
+            for (PhantomType type : PhantomType.ALL) {
+                int k = type.ordinal();
+                if (world.canSummon(type) && t >= ready[k]) {
+                    world.summon(type);
+                    spawn[k] = t;
+                }
+            }
+
+            world.step();
+
+            for (PhantomType type : PhantomType.ALL) {
+                int k = type.ordinal();
+                if (spawn[k] >= 0 && world.getActiveCount(type) == 0) {
+                    out.survival[k].add((t + 1 - spawn[k]) / hz);
+                    spawn[k] = -1;
+                    ready[k] = t + 1 + cooldownTicks;
+                }
+                if (levelUp[k] < 0 && profile.getLevel(type) > 1) levelUp[k] = t + 1;
+            }
+        }
+
+        out.ticks += ticks;
+        out.score.add(world.getScore());
+        for (PhantomType type : PhantomType.ALL) {
+            int k = type.ordinal();
+            if (levelUp[k] >= 0) out.levelUp[k].add(levelUp[k] / hz);
+            out.level[k].add(profile.getLevel(type));
+        }
+    }
+
+    private static void print(String name, FloatArray samples) {
+        if (samples.size == 0) {
+            System.out.printf("%-20s %6d%n", name, 0);
+            return;
+        }
+
+        float[] v = Arrays.copyOf(samples.items, samples.size);
+        Arrays.sort(v);
+
+        double sum = 0;
+        for (float x : v) sum += x;
+
+        System.out.printf("%-20s %6d %9.2f %8.2f %8.2f %8.2f %8.2f%n",
+                name, v.length, sum / v.length, pct(v, 0.10), pct(v, 0.50), pct(v, 0.90), v[v.length - 1]);
+    }
+
+    private static float pct(float[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(p * (sorted.length - 1)))];
+    }
+}
@@ -0,0 +1,74 @@
+package com.boltstorms.phantomball.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.boltstorms.phantomball.gameplay.PhantomType;
+import com.boltstorms.phantomball.gameplay.WorldController;
+import com.boltstorms.phantomball.util.Const;
+import com.boltstorms.phantomball.util.EventLog;
+
+/**
+ * Runs the simulation with no window and no GL: summons a ball whenever a card is free
+ * and ticks as fast as possible, then prints throughput.
+ *
+ * Args: [ticks=100000] [spirits=1000]
+ */
+public class HeadlessLauncher {
+
+    public static void main(String[] args) {
+        final int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        final int spirits = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = 0; // render() back-to-back, no sleeping
+
+        new HeadlessApplication(new SimSoak(ticks, spirits), config);
+    }
+
+    private static final class SimSoak extends ApplicationAdapter {
+
+        private static final int TICKS_PER_FRAME = 1000;
+
+        private final int ticks;
+        private final int spirits;
+
+        private WorldController world;
+        private int done = 0;
+        private long startNanos;
+        private boolean reported = false;
+
+        SimSoak(int ticks, int spirits) {
+            this.ticks = ticks;
+            this.spirits = spirits;
+        }
+
+        @Override
+        public void create() {
+            EventLog.setLevel(EventLog.OFF);
+            world = new WorldController();
+            world.resize((int) Const.VIRTUAL_W, (int) (Const.VIRTUAL_H - 170f));
+            world.spawnSpirits(Math.max(0, spirits - world.getSpiritCount()));
+            startNanos = System.nanoTime();
+        }
+
+        @Override
+        public void render() {
+            for (int i = 0; i < TICKS_PER_FRAME && done < ticks; i++, done++) {
+                for (PhantomType type : PhantomType.ALL) {
+                    if (world.canSummon(type)) world.summon(type);
+                }
+                world.step();
+            }
+
+            if (done < ticks || reported) return;
+            reported = true;
+
+            double seconds = (System.nanoTime() - startNanos) / 1e9;
+            System.out.printf("%d ticks, %d spirits: %.2f s, %.0f ticks/s, score %d%n",
+                    ticks, world.getSpiritCount(), seconds, ticks / seconds, world.getScore());
+            Gdx.app.exit();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.boltstorms.phantomball.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.boltstorms.phantomball.gameplay.replay.ReplayPlayer;
+import com.boltstorms.phantomball.util.EventLog;
+
+/**
+ * Re-simulates a recorded replay with no window, checks the final score and state hash,
+ * and prints throughput. Running it several times makes a replay a repeatable workload.
+ * Exits with status 1 if the replay does not reproduce.
+ *
+ * Args: replayFile [runs=1]
+ */
+public class ReplayRunner {
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("usage: ReplayRunner <replay.pbr> [runs]");
+            return;
+        }
+        final String path = args[0];
+        final int runs = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = 0;
+
+        new HeadlessApplication(new Verify(path, runs), config);
+    }
+
+    private static final class Verify extends ApplicationAdapter {
+
+        private final String path;
+        private final int runs;
+
+        Verify(String path, int runs) {
+            this.path = path;
+            this.runs = runs;
+        }
+
+        @Override
+        public void create() {
+            EventLog.setLevel(EventLog.OFF);
+            ReplayPlayer player = new ReplayPlayer(Gdx.files.absolute(path).readBytes());
+
+            boolean ok = true;
+            for (int run = 0; run < runs; run++) {
+                long t0 = System.nanoTime();
+                ReplayPlayer.Result r = player.run();
+                double seconds = (System.nanoTime() - t0) / 1e9;
+
+                System.out.printf("run %d: %d ticks in %.3f s (%.0f ticks/s), score %d/%d, hash %016x/%016x %s%n",
+                        run + 1, r.ticks, seconds, r.ticks / Math.max(1e-9, seconds),
+                        r.score, r.expectedScore, r.hash, r.expectedHash, r.matches() ? "OK" : "MISMATCH");
+                ok &= r.matches();
+            }
+
+            if (!ok) System.exit(1);
+            Gdx.app.exit();
+        }
+    }
+}